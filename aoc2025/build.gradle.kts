@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("io.freefair.aspectj.post-compile-weaving") version "8.4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "io.github.brm"
@@ -10,13 +11,71 @@ repositories {
     mavenCentral()
 }
 
+// Vector API kernels are the only code compiled against the
+// incubator module. Main loads them reflectively and falls back
+// to scalar kernels if the module is missing at runtime, so runs
+// only add the module when asked to with -Pvector
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets["main"].output
+}
+val vectorJvmArgs = listOf("--add-modules=jdk.incubator.vector")
+val runJvmArgs = if (project.hasProperty("vector")) vectorJvmArgs else emptyList()
+
+tasks.named<JavaCompile>("compileVectorJava") {
+    options.compilerArgs.addAll(vectorJvmArgs)
+}
+
+tasks.jar {
+    from(vector.output)
+}
+
 dependencies {
     testImplementation(platform("org.junit:junit-bom:5.9.1"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     implementation("org.aspectj:aspectjrt:1.9.21")
     aspect("org.aspectj:aspectjweaver:1.9.21")
+    runtimeOnly(vector.output)
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// Benchmarks run against the woven main classes, so the
+// CacheAspect overhead is part of what gets measured
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    includes.addAll(listOfNotNull(project.findProperty("jmhIncludes")?.toString()))
+    profilers.addAll(listOfNotNull(project.findProperty("jmhProfilers")?.toString()).flatMap { it.split(",") })
+}
+
+tasks.register<JavaExec>("runAll") {
+    description = "Runs every day's puzzles at once and prints a timing report."
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("io.github.brm.aoc2025.AdventOfCode")
+    jvmArgs(runJvmArgs)
+    args = listOfNotNull(project.findProperty("input")?.toString(),
+            if (project.hasProperty("verify")) "--verify" else null)
+}
+
+tasks.register<JavaExec>("scaling") {
+    description = "Runs each day at doubling input sizes and checks how its run time grows."
+    group = "verification"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.github.brm.aoc2025.ScalingSuite")
+    jvmArgs(runJvmArgs)
+    args = listOfNotNull(project.findProperty("days")?.toString()).flatMap { it.split(",") }
+}
+
+tasks.register<JavaExec>("feed") {
+    description = "Solves a day line by line from standard input, e.g. -Pday=1."
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("io.github.brm.aoc2025.LiveFeed")
+    jvmArgs(runJvmArgs)
+    standardInput = System.`in`
+    args = listOfNotNull(project.findProperty("day")?.toString() ?: "1")
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.collections.IntArrayDeque;
+import io.github.brm.aoc2025.cmn.collections.IntIntHashMap;
+import io.github.brm.aoc2025.cmn.collections.LongHashSet;
+import io.github.brm.aoc2025.cmn.collections.LongLongHashMap;
+import io.github.brm.aoc2025.cmn.collections.PackedPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The primitive collections in {@code cmn.collections} against
+ * the boxed JDK collections the days used before. Each benchmark
+ * builds a collection of {@code entries} entries and then reads
+ * every entry back, the way the days fill a visited set or memo
+ * and then probe it.
+ *
+ * <p> Run with {@code -PjmhProfilers=gc} to see the memory cost;
+ * {@code gc.alloc.rate.norm} is the bytes allocated per
+ * operation, so dividing it by {@code entries} gives the bytes
+ * per entry, including the garbage left behind by resizing.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionsBenchmark {
+
+    /** Number of entries put into each collection */
+    @Param({"1000", "100000"})
+    public int entries;
+
+    /** Points of a square, in random order, packed into longs */
+    private long[] points;
+    /** Small ints, as with the circuit roots of day 8 */
+    private int[] ints;
+
+    @Setup(Level.Trial)
+    public void createKeys() {
+        int side = (int) Math.ceil(Math.sqrt(entries));
+        points = new long[entries];
+        ints = new int[entries];
+        for (int i = 0; i < entries; i++) {
+            points[i] = PackedPoint.pack(i / side, i % side);
+            ints[i] = i;
+        }
+
+        Random random = new Random(2025);
+        for (int i = entries - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long point = points[i];
+            points[i] = points[j];
+            points[j] = point;
+            int value = ints[i];
+            ints[i] = ints[j];
+            ints[j] = value;
+        }
+    }
+
+    @Benchmark
+    public int jdkLongSet() {
+        Set<Long> set = new HashSet<>();
+        for (long point : points) {
+            set.add(point);
+        }
+
+        int found = 0;
+        for (long point : points) {
+            if (set.contains(point)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int longHashSet() {
+        LongHashSet set = new LongHashSet();
+        for (long point : points) {
+            set.add(point);
+        }
+
+        int found = 0;
+        for (long point : points) {
+            if (set.contains(point)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long jdkLongLongMap() {
+        Map<Long, Long> map = new HashMap<>();
+        for (long point : points) {
+            map.put(point, point + 1);
+        }
+
+        long sum = 0;
+        for (long point : points) {
+            sum += map.get(point);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longLongHashMap() {
+        LongLongHashMap map = new LongLongHashMap();
+        for (long point : points) {
+            map.put(point, point + 1);
+        }
+
+        long sum = 0;
+        for (long point : points) {
+            sum += map.get(point, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkIntIntMap() {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int key : ints) {
+            map.put(key, key + 1);
+        }
+
+        long sum = 0;
+        for (int key : ints) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intIntHashMap() {
+        IntIntHashMap map = new IntIntHashMap();
+        for (int key : ints) {
+            map.put(key, key + 1);
+        }
+
+        long sum = 0;
+        for (int key : ints) {
+            sum += map.get(key, 0);
+        }
+        return sum;
+    }
+
+    /** Breadth first style use, a few values in flight at once */
+    @Benchmark
+    public long jdkDeque() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        long sum = 0;
+        for (int i = 0; i < ints.length; i++) {
+            queue.add(ints[i]);
+            if ((i & 3) == 3) {
+                sum += queue.poll();
+            }
+        }
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+
+    /** Breadth first style use, a few values in flight at once */
+    @Benchmark
+    public long intArrayDeque() {
+        IntArrayDeque queue = new IntArrayDeque();
+        long sum = 0;
+        for (int i = 0; i < ints.length; i++) {
+            queue.addLast(ints[i]);
+            if ((i & 3) == 3) {
+                sum += queue.pollFirst();
+            }
+        }
+        while (!queue.isEmpty()) {
+            sum += queue.pollFirst();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.ConcurrentIntervalSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a {@link ConcurrentIntervalSet} under a mix of
+ * lookups and adds from many threads at once, such as new fresh
+ * ranges arriving while ingredients are checked. The set is filled
+ * with random ranges before each iteration.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentIntervalSetBenchmark {
+
+    /** IDs are below this, as in the day 5 inputs */
+    private static final long BOUND = 100_000_000_000_000L;
+
+    /** Ranges in the set before each iteration */
+    @Param({"10000", "1000000"})
+    public int ranges;
+
+    private ConcurrentIntervalSet set;
+    private long width;
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        SplittableRandom random = new SplittableRandom(ranges);
+        width = BOUND / ranges;
+        set = new ConcurrentIntervalSet();
+        for (int i = 0; i < ranges; i++) {
+            long start = random.nextLong(BOUND);
+            set.add(start, start + random.nextLong(width));
+        }
+    }
+
+    private boolean lookup() {
+        return set.contains(ThreadLocalRandom.current().nextLong(BOUND));
+    }
+
+    private void add() {
+        // Short ranges, so most adds land between existing ones
+        long start = ThreadLocalRandom.current().nextLong(BOUND);
+        set.add(start, start + ThreadLocalRandom.current().nextLong(width / 16 + 1));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public boolean readMostlyLookup() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public void readMostlyAdd() {
+        add();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public boolean mixedLookup() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public void mixedAdd() {
+        add();
+    }
+}
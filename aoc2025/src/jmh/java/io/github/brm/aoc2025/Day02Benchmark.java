@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.LongRangeSpliterator;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Benchmarks for {@link Day02}, along with the cost of checking
+ * every ID one at a time as day 2 used to. {@code Day02Test}
+ * checks that both give the same answers.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public class Day02Benchmark extends PuzzleBenchmark {
+
+    @Override
+    protected AdventOfCodePuzzle<?> newPuzzle() {
+        return new Day02();
+    }
+
+    /** Sum the IDs of every range that match, one at a time */
+    private static long enumerate(List<Day02.IdRange> ranges, LongPredicate invalid) {
+        List<long[]> bounds = ranges.stream()
+                .map(range -> new long[] {range.start(), range.end()})
+                .toList();
+        return LongRangeSpliterator.stream(bounds, true)
+                .filter(invalid)
+                .sum();
+    }
+
+    @Benchmark
+    public long enumeratePartTwo() {
+        return enumerate(((Day02) puzzle).input(), Day02::hasRepeatedSequence);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Benchmarks for {@link Day03}, along with picking many batteries
+ * from a single very long bank.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public class Day03Benchmark extends PuzzleBenchmark {
+
+    @Override
+    protected AdventOfCodePuzzle<?> newPuzzle() {
+        return new Day03();
+    }
+
+    /** Length of the long bank */
+    @Param({"1000000"})
+    public int bankLength;
+
+    /** Batteries to turn on in the long bank */
+    @Param({"12", "1000"})
+    public int batteries;
+
+    private ByteBuffer bank;
+    private byte[] digits;
+
+    @Setup(Level.Trial)
+    public void longBank() {
+        Random random = new Random(bankLength);
+        byte[] bytes = new byte[bankLength];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) ('1' + random.nextInt(9));
+        }
+        bank = ByteBuffer.wrap(bytes);
+        digits = new byte[batteries];
+    }
+
+    @Benchmark
+    public int selectLongBank() {
+        return Day03.select(bank, 0, bankLength, digits);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.LongKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reduces the numbers of a very wide {@link Day06} worksheet:
+ * folded through {@link Day06.Operation} one number at a time, or
+ * grouped by operation and reduced a tile at a time by the scalar
+ * and Vector API {@link LongKernels}. Only these forks add the
+ * {@code jdk.incubator.vector} module the vector kernels need.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class Day06KernelsBenchmark {
+
+    /** Rows of numbers in the wide worksheet */
+    private static final int ROWS = 4;
+    /** Problems per tile, as in {@link Day06} */
+    private static final int TILE = 1024;
+
+    /** Problems in the wide worksheet */
+    @Param({"1000000", "4000000"})
+    public int problems;
+
+    /** Number of each row under each problem */
+    private long[][] numbers;
+    /** Operation of each problem */
+    private Day06.Operation[] operations;
+
+    /** Tiles of the numbers under additions, by row */
+    private long[][][] sums;
+    /** Tiles of the numbers under multiplications, by row */
+    private long[][][] products;
+    /** Problems in each tile of sums */
+    private int[] added;
+    /** Problems in each tile of products */
+    private int[] multiplied;
+
+    @Setup(Level.Trial)
+    public void wideWorksheet() {
+        Random random = new Random(problems);
+        numbers = new long[ROWS][problems];
+        operations = new Day06.Operation[problems];
+        for (int p = 0; p < problems; p++) {
+            operations[p] = Day06.Operation.from((byte) (random.nextBoolean() ? '*' : '+'));
+            for (int r = 0; r < ROWS; r++) {
+                numbers[r][p] = 1 + random.nextInt(9999);
+            }
+        }
+
+        int tiles = (problems + TILE - 1) / TILE;
+        sums = new long[tiles][ROWS][TILE];
+        products = new long[tiles][ROWS][TILE];
+        added = new int[tiles];
+        multiplied = new int[tiles];
+        for (int p = 0; p < problems; p++) {
+            int tile = p / TILE;
+            boolean multiply = operations[p] instanceof Day06.Operation.Multiply;
+            long[][] group = multiply ? products[tile] : sums[tile];
+            int index = multiply ? multiplied[tile]++ : added[tile]++;
+            for (int r = 0; r < ROWS; r++) {
+                group[r][index] = numbers[r][p];
+            }
+        }
+    }
+
+    /** Fold each problem through its operation, one number at a time */
+    @Benchmark
+    public long reduceOperations() {
+        long sum = 0;
+        for (int p = 0; p < problems; p++) {
+            Day06.Operation operation = operations[p];
+            long result = operation.identity();
+            for (int r = 0; r < ROWS; r++) {
+                result = operation.apply(result, numbers[r][p]);
+            }
+            sum += result;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long reduceScalarKernels() {
+        return reduce(LongKernels.scalar());
+    }
+
+    @Benchmark
+    public long reduceVectorKernels() {
+        LongKernels vector = LongKernels.vector();
+        if (vector == null) {
+            throw new IllegalStateException("Vector kernels need --add-modules jdk.incubator.vector");
+        }
+        return reduce(vector);
+    }
+
+    private long reduce(LongKernels kernels) {
+        long sum = 0;
+        for (int tile = 0; tile < sums.length; tile++) {
+            sum += kernels.sum(sums[tile], added[tile]) + kernels.sumOfProducts(products[tile], multiplied[tile]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.Grid;
+import io.github.brm.aoc2025.cmn.MappedInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the cells of a day 4 floor map that have fewer than 4
+ * neighboring rolls, once on {@code char[][]} rows with a bounds
+ * check per neighbor as day 4 used to, and once on a {@link Grid}.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GridBenchmark {
+
+    /** A 2D move */
+    private record Move(int r, int c) { }
+
+    private static final List<Move> MOVES = List.of(
+            new Move(1, 0), new Move(-1, 0), new Move(0, 1), new Move(0, -1),
+            new Move(-1, -1), new Move(-1, 1), new Move(1, 1), new Move(1, -1));
+
+    /** Side length of the floor map */
+    @Param({"1000", "4000"})
+    public int size;
+
+    private char[][] rows;
+    private Grid grid;
+
+    @Setup(Level.Trial)
+    public void writeInput() throws IOException {
+        Path input = InputGenerator.write(4, size, 2025);
+        rows = Files.readAllLines(input).stream()
+                .map(String::toCharArray)
+                .toArray(char[][]::new);
+        grid = Grid.from(MappedInput.map(input));
+    }
+
+    @Benchmark
+    public int charRows() {
+        int count = 0;
+        for (int r = 0; r < rows.length; r++) {
+            for (int c = 0; c < rows[r].length; c++) {
+                if (rows[r][c] != '@') {
+                    continue;
+                }
+
+                int adjacent = 0;
+                for (Move move : MOVES) {
+                    int nr = r + move.r();
+                    int nc = c + move.c();
+                    if (nr >= 0 && nr < rows.length && nc >= 0 && nc < rows[nr].length && rows[nr][nc] == '@') {
+                        adjacent++;
+                    }
+                }
+
+                if (adjacent < 4) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int flatGrid() {
+        int count = 0;
+        int[] neighbors = grid.neighbors8();
+        for (int row = 0; row < grid.height(); row++) {
+            for (int cell = grid.cell(row, 0), end = cell + grid.width(); cell < end; cell++) {
+                if (grid.get(cell) == '@' && grid.countNeighbors(cell, neighbors, (byte) '@') < 4) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
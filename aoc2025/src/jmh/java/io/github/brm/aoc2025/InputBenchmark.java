@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.MappedInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares reading an input through {@link Files#lines(Path)}
+ * with reading it through {@link MappedInput}.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InputBenchmark {
+
+    /** Number of lines in the input */
+    @Param({"1000000", "10000000"})
+    public int lines;
+
+    private Path input;
+
+    @Setup(Level.Trial)
+    public void writeInput() throws IOException {
+        input = Files.createTempFile("rotations", ".txt");
+        input.toFile().deleteOnExit();
+
+        Random random = new Random(lines);
+        try (BufferedWriter writer = Files.newBufferedWriter(input)) {
+            for (int i = 0; i < lines; i++) {
+                writer.write(random.nextBoolean() ? 'L' : 'R');
+                writer.write(Integer.toString(1 + random.nextInt(999)));
+                writer.newLine();
+            }
+        }
+    }
+
+    @Benchmark
+    public long filesLines() throws IOException {
+        try (Stream<String> stream = Files.lines(input)) {
+            return stream.mapToLong(String::length).sum();
+        }
+    }
+
+    @Benchmark
+    public long mappedLines() {
+        return MappedInput.map(input).lines()
+                .mapToLong(String::length)
+                .sum();
+    }
+
+    @Benchmark
+    public long mappedForEachLine() {
+        long[] length = {0};
+        MappedInput.map(input).forEachLine(line -> length[0] += line.length());
+        return length[0];
+    }
+}
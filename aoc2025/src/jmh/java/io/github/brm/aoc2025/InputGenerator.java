@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded generators for the input format of each day. The same
+ * day, size and seed always give the same input, so runs can be
+ * compared with each other.
+ *
+ * <p> What the size means depends on the day, it is the number of
+ * lines for line based inputs and the side length for the grids
+ * of days 4 and 7.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class InputGenerator {
+
+    private InputGenerator() { }
+
+    /** Roughly the size of a real input for the day */
+    public static int realSize(int day) {
+        return switch (day) {
+            case 1 -> 4_000;
+            case 2 -> 40;
+            case 3 -> 200;
+            case 4, 7 -> 140;
+            case 5 -> 1_000;
+            case 6 -> 1_000;
+            case 8 -> 1_000;
+            case 9 -> 500;
+            case 10 -> 160;
+            case 11 -> 600;
+            default -> throw new IllegalArgumentException("No generator for day " + day);
+        };
+    }
+
+    /**
+     * Write a generated input for the day to a temporary file.
+     *
+     * @param day the day.
+     * @param size the size of the input.
+     * @param seed the random seed.
+     * @return the path of the written input.
+     */
+    public static Path write(int day, int size, long seed) throws IOException {
+        Path file = Files.createTempFile("day" + day + "-" + size + "-", ".txt");
+        file.toFile().deleteOnExit();
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            generate(day, size, new Random(seed), writer);
+        }
+        return file;
+    }
+
+    /** Generate the input for the day */
+    public static void generate(int day, int size, Random random, Writer out) throws IOException {
+        switch (day) {
+            case 1 -> rotations(size, random, out);
+            case 2 -> idRanges(size, random, out);
+            case 3 -> batteryBanks(size, random, out);
+            case 4 -> paperRolls(size, random, out);
+            case 5 -> ingredients(size, random, out);
+            case 6 -> worksheet(size, random, out);
+            case 7 -> manifold(size, random, out);
+            case 8 -> junctionBoxes(size, random, out);
+            case 9 -> redTiles(size, random, out);
+            case 10 -> machines(size, random, out);
+            case 11 -> devices(size, random, out);
+            default -> throw new IllegalArgumentException("No generator for day " + day);
+        }
+    }
+
+    /** Day 1, dial rotations such as {@code L68} */
+    private static void rotations(int size, Random random, Writer out) throws IOException {
+        for (int i = 0; i < size; i++) {
+            out.write(random.nextBoolean() ? 'L' : 'R');
+            out.write(Integer.toString(1 + random.nextInt(999)));
+            out.write('\n');
+        }
+    }
+
+    /** Day 2, a single line of comma separated ID ranges */
+    private static void idRanges(int size, Random random, Writer out) throws IOException {
+        for (int i = 0; i < size; i++) {
+            long start = (long) Math.pow(10, 1 + random.nextInt(9)) + random.nextInt(1_000_000);
+            long end = start + random.nextInt(100_000);
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(start + "-" + end);
+        }
+        out.write('\n');
+    }
+
+    /** Day 3, banks of 100 battery joltages */
+    private static void batteryBanks(int size, Random random, Writer out) throws IOException {
+        char[] bank = new char[100];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < bank.length; j++) {
+                bank[j] = (char) ('1' + random.nextInt(9));
+            }
+            out.write(bank);
+            out.write('\n');
+        }
+    }
+
+    /** Day 4, a square floor map that is about 60% paper rolls */
+    private static void paperRolls(int size, Random random, Writer out) throws IOException {
+        char[] row = new char[size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                row[j] = random.nextInt(10) < 6 ? '@' : '.';
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+
+    /** Day 5, fresh ID ranges then a blank line then ingredient IDs */
+    private static void ingredients(int size, Random random, Writer out) throws IOException {
+        long bound = 100_000_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            long start = 1 + Math.floorMod(random.nextLong(), bound);
+            out.write(start + "-" + (start + Math.floorMod(random.nextLong(), bound / 1_000_000)) + "\n");
+        }
+
+        out.write('\n');
+        for (int i = 0; i < size; i++) {
+            out.write((1 + Math.floorMod(random.nextLong(), bound)) + "\n");
+        }
+    }
+
+    /**
+     * Day 6, a worksheet of problems written in columns with the
+     * operators on the last line. The first row of each problem
+     * is full width so no column of a problem is blank.
+     */
+    private static void worksheet(int size, Random random, Writer out) throws IOException {
+        int rows = 4;
+        StringBuilder[] lines = new StringBuilder[rows];
+        Arrays.setAll(lines, i -> new StringBuilder());
+        StringBuilder operators = new StringBuilder();
+
+        for (int p = 0; p < size; p++) {
+            int width = 1 + random.nextInt(4);
+            boolean full = p == 0 || p == size - 1;
+            String separator = p == 0 ? "" : " ";
+            for (int r = 0; r < rows; r++) {
+                int digits = (full || r == 0) ? width : 1 + random.nextInt(width);
+                String number = Long.toString(pow10(digits - 1) + (long) (random.nextDouble() * 9 * pow10(digits - 1)));
+                String padding = " ".repeat(width - number.length());
+                lines[r].append(separator).append(random.nextBoolean() ? number + padding : padding + number);
+            }
+
+            operators.append(separator).append(random.nextBoolean() ? '*' : '+').append(" ".repeat(width - 1));
+        }
+
+        for (StringBuilder line : lines) {
+            out.write(line.toString());
+            out.write('\n');
+        }
+        out.write(operators.toString().stripTrailing());
+        out.write('\n');
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    /**
+     * Day 7, a square manifold with the start in the middle of
+     * the top row. Splitters sit on every other row, inside the
+     * cone that the beams can reach.
+     */
+    private static void manifold(int size, Random random, Writer out) throws IOException {
+        int start = size / 2;
+        char[] row = new char[size];
+        for (int r = 0; r < size; r++) {
+            Arrays.fill(row, '.');
+            if (r == 0) {
+                row[start] = 'S';
+            } else if (r % 2 == 0) {
+                for (int c = 1; c < size - 1; c++) {
+                    boolean reachable = Math.abs(c - start) <= r && Math.floorMod(c - start + r / 2 + 1, 2) == 0;
+                    if (reachable && random.nextBoolean()) {
+                        row[c] = '^';
+                    }
+                }
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+
+    /** Day 8, junction box coordinates such as {@code 162,817,812} */
+    private static void junctionBoxes(int size, Random random, Writer out) throws IOException {
+        for (int i = 0; i < size; i++) {
+            out.write(random.nextInt(100_000) + "," + random.nextInt(100_000) + "," + random.nextInt(100_000) + "\n");
+        }
+    }
+
+    /** Day 9, the corners of a staircase shaped rectilinear polygon */
+    private static void redTiles(int size, Random random, Writer out) throws IOException {
+        int x = 1_000;
+        int y = 1_000;
+        out.write(x + "," + y + "\n");
+        for (int i = 1; i < size - 1; i++) {
+            if (i % 2 == 1) {
+                x += 1 + random.nextInt(1_000);
+            } else {
+                y += 1 + random.nextInt(1_000);
+            }
+            out.write(x + "," + y + "\n");
+        }
+        out.write(1_000 + "," + y + "\n");
+    }
+
+    /**
+     * Day 10, factory machines. The lights and joltages are made
+     * by pressing random buttons, so every machine can be solved.
+     */
+    private static void machines(int size, Random random, Writer out) throws IOException {
+        for (int m = 0; m < size; m++) {
+            int lights = 3 + random.nextInt(4);
+            int buttons = 3 + random.nextInt(4);
+
+            List<List<Integer>> schematics = new ArrayList<>();
+            for (int b = 0; b < buttons; b++) {
+                List<Integer> wiring = new ArrayList<>();
+                for (int l = 0; l < lights; l++) {
+                    if (random.nextInt(3) == 0 || (b == l % buttons && wiring.isEmpty())) {
+                        wiring.add(l);
+                    }
+                }
+                if (wiring.isEmpty()) {
+                    wiring.add(random.nextInt(lights));
+                }
+                schematics.add(wiring);
+            }
+
+            boolean[] diagram = new boolean[lights];
+            int[] joltage = new int[lights];
+            for (List<Integer> wiring : schematics) {
+                int presses = random.nextInt(4);
+                for (int light : wiring) {
+                    joltage[light] += presses;
+                    diagram[light] ^= (presses % 2 == 1);
+                }
+            }
+
+            StringBuilder line = new StringBuilder("[");
+            for (boolean on : diagram) {
+                line.append(on ? '#' : '.');
+            }
+            line.append(']');
+            for (List<Integer> wiring : schematics) {
+                line.append(" (");
+                for (int i = 0; i < wiring.size(); i++) {
+                    line.append(i == 0 ? "" : ",").append(wiring.get(i));
+                }
+                line.append(')');
+            }
+            line.append(" {");
+            for (int i = 0; i < lights; i++) {
+                line.append(i == 0 ? "" : ",").append(joltage[i]);
+            }
+            out.write(line.append("}\n").toString());
+        }
+    }
+
+    /**
+     * Day 11, a layered device graph. {@code svr} and {@code you}
+     * start it, {@code fft} and {@code dac} sit a third and two
+     * thirds of the way down and every device of the last layer
+     * connects to {@code out}.
+     */
+    private static void devices(int size, Random random, Writer out) throws IOException {
+        int width = Math.max(4, (int) Math.sqrt(size));
+        int layers = Math.max(3, size / width);
+
+        List<List<String>> graph = new ArrayList<>();
+        int id = 0;
+        for (int l = 0; l < layers; l++) {
+            List<String> layer = new ArrayList<>();
+            for (int i = 0; i < width; i++) {
+                layer.add("n" + Integer.toString(id++, 36));
+            }
+            graph.add(layer);
+        }
+        graph.get(0).addAll(List.of("svr", "you"));
+        graph.get(layers / 3).add("fft");
+        graph.get(2 * layers / 3).add("dac");
+
+        for (int l = 0; l < layers; l++) {
+            List<String> next = l + 1 < layers ? graph.get(l + 1) : List.of("out");
+            for (String device : graph.get(l)) {
+                out.write(device + ":");
+                int edges = Math.min(next.size(), 1 + random.nextInt(2));
+                int first = random.nextInt(next.size());
+                for (int e = 0; e < edges; e++) {
+                    out.write(" " + next.get((first + e) % next.size()));
+                }
+                out.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.IntervalSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds an {@link IntervalSet} from random ranges like the day 5
+ * fresh ranges, then looks up random IDs one at a time and as a
+ * sorted batch. The largest sizes need a heap of several GB.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class IntervalSetBenchmark {
+
+    /** IDs are below this, as in the day 5 inputs */
+    private static final long BOUND = 100_000_000_000_000L;
+
+    @Param({"1000000", "100000000"})
+    public int ranges;
+
+    @Param({"100000000"})
+    public int queries;
+
+    private long[] starts;
+    private long[] ends;
+    private IntervalSet set;
+    private long[] ids;
+    private long[] sortedIds;
+
+    @Setup(Level.Trial)
+    public void createRanges() {
+        SplittableRandom random = new SplittableRandom(ranges);
+        starts = new long[ranges];
+        ends = new long[ranges];
+        for (int i = 0; i < ranges; i++) {
+            starts[i] = random.nextLong(BOUND);
+            ends[i] = starts[i] + random.nextLong(BOUND / ranges * 2);
+        }
+        set = IntervalSet.of(starts.clone(), ends.clone());
+
+        ids = random.longs(queries, 0, BOUND).toArray();
+        sortedIds = ids.clone();
+        Arrays.parallelSort(sortedIds);
+    }
+
+    @Benchmark
+    public IntervalSet build() {
+        return IntervalSet.of(starts.clone(), ends.clone());
+    }
+
+    /** Looks up a tenth of the IDs one at a time */
+    @Benchmark
+    public long contains() {
+        long count = 0;
+        for (int i = 0; i < queries / 10; i++) {
+            if (set.contains(ids[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long count() {
+        return set.count(ids);
+    }
+
+    @Benchmark
+    public long countSorted() {
+        return set.countSorted(sortedIds);
+    }
+}
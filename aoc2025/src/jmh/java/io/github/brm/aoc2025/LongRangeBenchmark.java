@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.LongRangeSpliterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Runs the day 2 repeated pattern check over every ID of a set of
+ * ranges in parallel, where one range holds most of the IDs, as
+ * ranges of real inputs often do.
+ *
+ * <p> {@code boxedFlatMap} is how day 2 used to enumerate IDs,
+ * {@code flatMap} drops the boxing but still leaves each range to
+ * a single thread, and {@code spliterator} splits the IDs evenly
+ * with a {@link LongRangeSpliterator}. At {@code 10^10} IDs only
+ * the last finishes in reasonable time, pick it with
+ * {@code -PjmhIncludes=LongRangeBenchmark.spliterator}.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class LongRangeBenchmark {
+
+    /** Small ranges next to the big one */
+    private static final int SMALL_RANGES = 99;
+
+    /** Total IDs across all the ranges */
+    @Param({"100000000", "10000000000"})
+    public long ids;
+
+    private List<long[]> ranges;
+
+    @Setup(Level.Trial)
+    public void createRanges() {
+        // Nine tenths of the IDs in one range, the rest spread out
+        long big = ids / 10 * 9;
+        long small = (ids - big) / SMALL_RANGES;
+        ranges = new ArrayList<>();
+        long start = 1;
+        for (int i = 0; i < SMALL_RANGES; i++) {
+            ranges.add(new long[] {start, start + small - 1});
+            start += small * 2;
+        }
+        ranges.add(new long[] {start, start + big - 1});
+    }
+
+    @Benchmark
+    public long boxedFlatMap() {
+        return ranges.parallelStream()
+                .flatMap(range -> LongStream.rangeClosed(range[0], range[1]).boxed())
+                .map(Objects::toString)
+                .mapToLong(Long::parseLong)
+                .filter(Day02::hasRepeatedSequence)
+                .sum();
+    }
+
+    @Benchmark
+    public long flatMap() {
+        return ranges.parallelStream()
+                .flatMapToLong(range -> LongStream.rangeClosed(range[0], range[1]))
+                .filter(Day02::hasRepeatedSequence)
+                .sum();
+    }
+
+    @Benchmark
+    public long spliterator() {
+        return LongRangeSpliterator.stream(ranges, true)
+                .filter(Day02::hasRepeatedSequence)
+                .sum();
+    }
+}
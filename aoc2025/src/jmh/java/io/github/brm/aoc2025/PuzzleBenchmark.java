@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base benchmark for a day's puzzles, measuring parsing and each
+ * part on their own against a generated input. Subclasses only
+ * have to say which puzzle to create.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class PuzzleBenchmark {
+
+    /** How many times larger than a real input to make the input */
+    @Param({"1", "2", "4"})
+    public int scale;
+
+    /** Seed for the generated input */
+    @Param("2025")
+    public long seed;
+
+    /** Puzzle with its input already parsed */
+    protected AdventOfCodePuzzle<?> puzzle;
+
+    /** Create a new puzzle, its input is not parsed yet */
+    protected abstract AdventOfCodePuzzle<?> newPuzzle();
+
+    @Setup(Level.Trial)
+    public void writeInput() throws IOException {
+        int day = newPuzzle().day();
+        Path input = InputGenerator.write(day, InputGenerator.realSize(day) * scale, seed);
+        System.setProperty(AdventOfCodePuzzle.INPUT_PROPERTY, input.toString());
+
+        puzzle = newPuzzle();
+        puzzle.input();
+    }
+
+    /** Read and parse the input */
+    @Benchmark
+    public Object parse() {
+        return newPuzzle().input();
+    }
+
+    @Benchmark
+    public long solvePartOne() {
+        return puzzle.solvePartOne();
+    }
+
+    @Benchmark
+    public long solvePartTwo() {
+        return puzzle.solvePartTwo();
+    }
+}
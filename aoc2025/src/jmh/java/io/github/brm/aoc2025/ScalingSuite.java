@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runs each day at doubling input sizes and fits the growth of
+ * its run time to {@code time ~ size^k}. A day fails when its
+ * exponent {@code k} goes over the budget declared for it, which
+ * catches a change that makes a solver worse in big-O terms even
+ * if it is still fast on the real input.
+ *
+ * <p> Pass day numbers as arguments to only run those days.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class ScalingSuite {
+
+    /** Number of sizes to run each day at */
+    private static final int STEPS = 5;
+    /** Runs per size, the fastest one is kept */
+    private static final int RUNS = 3;
+    /** Slack on top of the expected exponent before a day fails */
+    private static final double TOLERANCE = 0.35;
+    private static final long SEED = 2025;
+
+    /**
+     * A day in the suite.
+     *
+     * @param puzzle creates the puzzle.
+     * @param startSize the smallest input size.
+     * @param exponent the expected growth exponent of the total time.
+     */
+    private record Case(Supplier<AdventOfCodePuzzle<?>> puzzle, int startSize, double exponent) { }
+
+    /** Time in nanoseconds of each phase */
+    private record Sample(int size, long parse, long partOne, long partTwo) {
+        long total() {
+            return parse + partOne + partTwo;
+        }
+    }
+
+    private static final Map<Integer, Case> CASES = new TreeMap<>(Map.ofEntries(
+            Map.entry(1, new Case(Day01::new, 200_000, 1)),
+            Map.entry(2, new Case(Day02::new, 20, 1)),
+            Map.entry(3, new Case(Day03::new, 2_000, 1)),
+            // Size is the side of the grid, so linear in cells is 2
+            Map.entry(4, new Case(Day04::new, 100, 2)),
+            Map.entry(5, new Case(Day05::new, 2_000, 1)),
+            Map.entry(6, new Case(Day06::new, 20_000, 1)),
+            Map.entry(7, new Case(Day07::new, 100, 2)),
+            Map.entry(8, new Case(Day08::new, 250, 2)),
+            Map.entry(9, new Case(Day09::new, 50, 2)),
+            Map.entry(10, new Case(Day10::new, 200, 1)),
+            Map.entry(11, new Case(Day11::new, 5_000, 1))
+    ));
+
+    private ScalingSuite() { }
+
+    /** Run the suite */
+    public static void main(String[] args) throws IOException {
+        List<Integer> days = args.length == 0
+                ? new ArrayList<>(CASES.keySet())
+                : Arrays.stream(args).map(Integer::parseInt).toList();
+
+        System.out.printf("%-6s %8s %8s %8s %8s %8s %s%n", "Day", "Parse", "Part 1", "Part 2", "Total", "Budget", "");
+        boolean failed = false;
+        for (int day : days) {
+            Case test = CASES.get(day);
+            if (test == null) {
+                throw new IllegalArgumentException("No scaling case for day " + day);
+            }
+
+            List<Sample> samples = new ArrayList<>();
+            for (int step = 0, size = test.startSize(); step < STEPS; step++, size *= 2) {
+                samples.add(run(day, test, size));
+            }
+
+            double budget = test.exponent() + TOLERANCE;
+            double total = exponent(samples, Sample::total);
+            boolean ok = total <= budget;
+            failed |= !ok;
+
+            System.out.printf("Day%02d  %8.2f %8.2f %8.2f %8.2f %8.2f %s%n", day,
+                    exponent(samples, Sample::parse),
+                    exponent(samples, Sample::partOne),
+                    exponent(samples, Sample::partTwo),
+                    total, budget, ok ? "ok" : "FAILED");
+        }
+
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    /** Generate the input at the given size and time each phase */
+    private static Sample run(int day, Case test, int size) throws IOException {
+        Path input = InputGenerator.write(day, size, SEED);
+        System.setProperty(AdventOfCodePuzzle.INPUT_PROPERTY, input.toString());
+        try {
+            Sample best = null;
+            for (int i = 0; i < RUNS; i++) {
+                AdventOfCodePuzzle<?> puzzle = test.puzzle().get();
+                long start = System.nanoTime();
+                puzzle.input();
+                long parsed = System.nanoTime();
+                puzzle.solvePartOne();
+                long partOne = System.nanoTime();
+                puzzle.solvePartTwo();
+                long partTwo = System.nanoTime();
+
+                Sample sample = new Sample(size, parsed - start, partOne - parsed, partTwo - partOne);
+                if (best == null || sample.total() < best.total()) {
+                    best = sample;
+                }
+            }
+            return best;
+        } finally {
+            Files.deleteIfExists(input);
+        }
+    }
+
+    /** Least squares slope of log(time) against log(size) */
+    private static double exponent(List<Sample> samples, ToLongFunction<Sample> time) {
+        int n = samples.size();
+        double sumX = 0, sumY = 0, sumXY = 0, sumXX = 0;
+        for (Sample sample : samples) {
+            double x = Math.log(sample.size());
+            double y = Math.log(Math.max(1, time.applyAsLong(sample)));
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+        }
+        return (n * sumXY - sumX * sumY) / (n * sumXX - sumX * sumX);
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.CacheAspect;
+import io.github.brm.aoc2025.cmn.CacheStats;
+import io.github.brm.aoc2025.cmn.MetricsRegistry;
+import io.github.brm.aoc2025.cmn.PuzzlePhaseEvent;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Runs every puzzle in this package at once and prints a timing
+ * report. Inputs are loaded on a small pool of loader threads,
+ * and once a day has its input both parts are solved side by
+ * side on a {@link ForkJoinPool}, so the whole suite takes about
+ * as long as its slowest day rather than the sum of all days.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class AdventOfCode {
+
+    /** Threads used to read and parse inputs */
+    private static final int LOADER_THREADS = 4;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private AdventOfCode() { }
+
+    /**
+     * A measured task.
+     *
+     * @param value the value computed.
+     * @param wallNanos elapsed time.
+     * @param cpuNanos CPU time of the thread that ran the task.
+     */
+    private record Measured<V>(V value, long wallNanos, long cpuNanos) { }
+
+    /** Report for a single day */
+    private record DayReport(String name,
+                             Measured<?> parse,
+                             Measured<Long> partOne,
+                             Measured<Long> partTwo,
+                             boolean stored,
+                             Throwable error) {
+
+        long wallNanos() {
+            return error != null ? 0 : parse.wallNanos() + Math.max(partOne.wallNanos(), partTwo.wallNanos());
+        }
+
+        long cpuNanos() {
+            return error != null ? 0 : parse.cpuNanos() + partOne.cpuNanos() + partTwo.cpuNanos();
+        }
+    }
+
+    /** Run all days */
+    public static void main(String[] args) throws Exception {
+        AdventOfCodePuzzle.inputFrom(args);
+        List<Class<?>> puzzles = findPuzzles();
+
+        ExecutorService loaders = Executors.newFixedThreadPool(Math.min(LOADER_THREADS, Math.max(1, puzzles.size())));
+        ForkJoinPool solvers = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            long start = System.nanoTime();
+            List<CompletableFuture<DayReport>> reports = new ArrayList<>();
+            for (Class<?> puzzle : puzzles) {
+                reports.add(run(puzzle, loaders, solvers));
+            }
+
+            List<DayReport> results = reports.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+            print(results, System.nanoTime() - start);
+        } finally {
+            loaders.shutdown();
+            solvers.shutdown();
+        }
+    }
+
+    /** Load the day on the loader pool, then solve both parts at once */
+    private static CompletableFuture<DayReport> run(Class<?> type, ExecutorService loaders, ForkJoinPool solvers) {
+        String name = type.getSimpleName();
+        return CompletableFuture
+                .supplyAsync(() -> measure(() -> {
+                    AdventOfCodePuzzle<?> puzzle = (AdventOfCodePuzzle<?>) type.getDeclaredConstructor().newInstance();
+                    // No need to parse if both answers are stored
+                    if (!puzzle.answersStored()) {
+                        puzzle.input();
+                    }
+                    return puzzle;
+                }), loaders)
+                .thenCompose(loaded -> {
+                    AdventOfCodePuzzle<?> puzzle = loaded.value();
+                    CompletableFuture<Measured<Long>> partOne = CompletableFuture.supplyAsync(
+                            () -> measure(() -> puzzle.answer(PuzzlePhaseEvent.PART_ONE, puzzle::solvePartOne)), solvers);
+                    CompletableFuture<Measured<Long>> partTwo = CompletableFuture.supplyAsync(
+                            () -> measure(() -> puzzle.answer(PuzzlePhaseEvent.PART_TWO, puzzle::solvePartTwo)), solvers);
+                    return partOne.thenCombine(partTwo, (one, two) -> {
+                        CacheAspect.invalidate(puzzle);
+                        return new DayReport(name, loaded, one, two,
+                                puzzle.isStored(PuzzlePhaseEvent.PART_ONE) && puzzle.isStored(PuzzlePhaseEvent.PART_TWO), null);
+                    });
+                })
+                .exceptionally(error -> new DayReport(name, null, null, null, false,
+                        error instanceof CompletionException ? error.getCause() : error));
+    }
+
+    /** Run the task, recording the elapsed and CPU time */
+    private static <V> Measured<V> measure(Callable<V> task) {
+        long cpuStart = THREADS.getCurrentThreadCpuTime();
+        long start = System.nanoTime();
+        try {
+            V value = task.call();
+            return new Measured<>(value, System.nanoTime() - start, THREADS.getCurrentThreadCpuTime() - cpuStart);
+        } catch (Exception exception) {
+            throw new CompletionException(exception);
+        }
+    }
+
+    /** Print the timing table */
+    private static void print(List<DayReport> reports, long wallNanos) {
+        String format = "%-6s %10s %10s %10s %20s %20s %s%n";
+        System.out.printf(format, "Day", "Parse ms", "Part 1 ms", "Part 2 ms", "Part 1", "Part 2", "");
+
+        long cpuNanos = 0;
+        DayReport slowest = null;
+        for (DayReport report : reports) {
+            if (report.error() != null) {
+                System.out.printf("%-6s failed: %s%n", report.name(), report.error());
+                continue;
+            }
+
+            System.out.printf(format, report.name(),
+                    millis(report.parse().wallNanos()),
+                    millis(report.partOne().wallNanos()),
+                    millis(report.partTwo().wallNanos()),
+                    report.partOne().value(),
+                    report.partTwo().value(),
+                    report.stored() ? "stored" : "");
+
+            cpuNanos += report.cpuNanos();
+            if (slowest == null || report.wallNanos() > slowest.wallNanos()) {
+                slowest = report;
+            }
+        }
+
+        System.out.printf("%nWall clock %s ms, summed CPU %s ms", millis(wallNanos), millis(cpuNanos));
+        if (slowest != null) {
+            System.out.printf(", slowest day %s (%s ms)", slowest.name(), millis(slowest.wallNanos()));
+        }
+        System.out.println();
+
+        if (!MetricsRegistry.global().snapshot().isEmpty()) {
+            System.out.printf("%n%s", MetricsRegistry.global().toText());
+        }
+
+        List<CacheStats> caches = CacheAspect.stats();
+        if (!caches.isEmpty()) {
+            System.out.println();
+            caches.forEach(System.out::println);
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+
+    /**
+     * Find all concrete {@link AdventOfCodePuzzle} classes in this
+     * package, from either a directory or a jar on the classpath.
+     *
+     * @return the puzzle classes, ordered by name.
+     */
+    private static List<Class<?>> findPuzzles() throws IOException, URISyntaxException, ClassNotFoundException {
+        String pkg = AdventOfCode.class.getPackageName();
+        String path = pkg.replace('.', '/');
+        ClassLoader loader = AdventOfCode.class.getClassLoader();
+
+        Set<String> files = new TreeSet<>();
+        Enumeration<URL> roots = loader.getResources(path);
+        while (roots.hasMoreElements()) {
+            URL root = roots.nextElement();
+            if ("jar".equals(root.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) root.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jar = connection.getJarFile()) {
+                    jar.stream()
+                            .map(JarEntry::getName)
+                            .filter(name -> name.startsWith(path + "/"))
+                            .map(name -> name.substring(path.length() + 1))
+                            .forEach(files::add);
+                }
+            } else if ("file".equals(root.getProtocol())) {
+                try (Stream<Path> list = Files.list(Path.of(root.toURI()))) {
+                    list.map(file -> file.getFileName().toString()).forEach(files::add);
+                }
+            }
+        }
+
+        List<Class<?>> puzzles = new ArrayList<>();
+        for (String file : files) {
+            // Only top level classes directly in this package
+            if (!file.endsWith(".class") || file.contains("$") || file.contains("/")) {
+                continue;
+            }
+
+            Class<?> type = Class.forName(pkg + "." + file.substring(0, file.length() - ".class".length()), false, loader);
+            if (AdventOfCodePuzzle.class.isAssignableFrom(type) && !Modifier.isAbstract(type.getModifiers())) {
+                puzzles.add(type);
+            }
+        }
+
+        return puzzles;
+    }
+}
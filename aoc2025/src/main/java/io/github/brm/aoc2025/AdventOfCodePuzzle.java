@@ -18,12 +18,37 @@
  */
 package io.github.brm.aoc2025;
 
+import io.github.brm.aoc2025.cmn.AnswerStore;
+import io.github.brm.aoc2025.cmn.CacheAspect;
+import io.github.brm.aoc2025.cmn.CacheStats;
+import io.github.brm.aoc2025.cmn.LongKernels;
+import io.github.brm.aoc2025.cmn.MappedInput;
+import io.github.brm.aoc2025.cmn.MetricsRegistry;
+import io.github.brm.aoc2025.cmn.PuzzlePhaseEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -31,13 +56,57 @@ import java.util.stream.Stream;
  * Abstract class that can be extended by an advent of code
  * class used to solve the puzzles for any given day.
  *
+ * <p> Each day parses its input once into a model of type
+ * {@code T} in {@link #parseInput()}, both parts then solve
+ * against the same model through {@link #input()}.
+ *
+ * @param <T> the parsed input model.
  * @author benjaminmichael
  * @since 0.0.0
  */
-public abstract class AdventOfCodePuzzle {
+public abstract class AdventOfCodePuzzle<T> {
+
+   /**
+    * System property pointing at the input to use instead of
+    * the bundled resource, either a file or a directory that
+    * holds {@code day<N>.txt} files.
+    */
+   public static final String INPUT_PROPERTY = "aoc.input";
+
+   /**
+    * System property that, when {@code true}, solves every part
+    * even if its answer is stored and fails if the two differ.
+    */
+   public static final String VERIFY_PROPERTY = "aoc.verify";
+
+   /** Digest of the code that solves each puzzle class, see {@link #solverVersion()} */
+   private static final ClassValue<String> CODE_VERSIONS = new ClassValue<>() {
+      @Override
+      protected String computeValue(Class<?> type) {
+         String code = CodeDigest.VALUE;
+         if (code != null) {
+            return code;
+         }
+
+         MessageDigest digest = AnswerStore.sha256();
+         updateWithClassFiles(digest, type);
+         return HexFormat.of().formatHex(digest.digest());
+      }
+   };
 
    private final int day;
 
+   /** The parsed input, set on first use */
+   private volatile T input;
+   /** Time spent in {@link #parseInput()} */
+   private long parseNanos;
+   /** Size of the last input mapped */
+   private volatile long inputBytes;
+   /** SHA-256 of the input, set on first use */
+   private volatile byte[] inputDigest;
+   /** Phases whose answer was read from the answer store */
+   private final Set<String> storedPhases = ConcurrentHashMap.newKeySet();
+
    protected AdventOfCodePuzzle() {
        String name = getClass().getSimpleName();
        this.day = Integer.parseInt(name.substring(3));
@@ -48,10 +117,10 @@ public abstract class AdventOfCodePuzzle {
      * mapper to the expected object type.
      *
      * @param mapper mapper to use
-     * @return stream of type {@code T}
-     * @param <T> the object type.
+     * @return stream of type {@code R}
+     * @param <R> the object type.
      */
-   protected <T> Stream<T> readInput(Function<String, T> mapper) {
+   protected <R> Stream<R> readInput(Function<String, R> mapper) {
       return readInput()
               .filter(Objects::nonNull)
               .filter(Predicate.not(String::isBlank))
@@ -67,14 +136,14 @@ public abstract class AdventOfCodePuzzle {
     /**
      * Read the input file, split each line of the input file
      * using the given {@code splitter}, then map each split
-     * string to the type {@code T} with the mapper.
+     * string to the type {@code R} with the mapper.
      *
      * @param splitter splitter used to split each input line.
      * @param mapper mapper to map to expected type.
-     * @return stream of {@code T}
-     * @param <T> the mapped object type
+     * @return stream of {@code R}
+     * @param <R> the mapped object type
      */
-    protected <T> Stream<T> readInput(String splitter, Function<String, T> mapper) {
+    protected <R> Stream<R> readInput(String splitter, Function<String, R> mapper) {
        return readInput()
                .flatMap(line -> Arrays.stream(line.split(splitter)))
                .map(mapper);
@@ -87,29 +156,370 @@ public abstract class AdventOfCodePuzzle {
      * @return stream of lines in the input file.
      */
     protected Stream<String> readInput() {
-      String inputFileName = String.format("/day%d.txt", day);
-      URL resource = AdventOfCodePuzzle.class.getResource(inputFileName);
+      return mapInput().lines();
+   }
+
+    /**
+     * Memory map the input file for this day. The input is read
+     * from the path in the {@value #INPUT_PROPERTY} property if
+     * it is set, otherwise from the {@code day<N>.txt} resource.
+     *
+     * @return the byte level view of the input.
+     */
+    protected MappedInput mapInput() {
+      PuzzlePhaseEvent event = new PuzzlePhaseEvent();
+      event.begin();
+      MappedInput mapped = locateInput();
+      inputBytes = mapped.size();
+      commit(event, PuzzlePhaseEvent.LOAD, 0);
+      return mapped;
+   }
+
+   /** Map the input from the override path or the resource */
+   private MappedInput locateInput() {
+      String override = System.getProperty(INPUT_PROPERTY);
+      if (override != null) {
+         Path path = Path.of(override);
+         return MappedInput.map(Files.isDirectory(path) ? path.resolve(inputFileName()) : path);
+      }
+
+      URL resource = AdventOfCodePuzzle.class.getResource("/" + inputFileName());
+      if (resource == null) {
+         throw new IllegalStateException("No input found for day " + day);
+      }
+
       try {
-         assert resource != null;
-         Path path = Path.of(resource.toURI());
-         return Files.lines(path);
-      } catch (Exception exception) {
-         throw new RuntimeException(exception);
+         // Resources packaged in a jar cannot be mapped
+         return "file".equals(resource.getProtocol())
+                 ? MappedInput.map(Path.of(resource.toURI()))
+                 : MappedInput.read(resource.openStream());
+      } catch (URISyntaxException exception) {
+         throw new IllegalStateException(exception);
+      } catch (IOException exception) {
+         throw new UncheckedIOException(exception);
+      }
+   }
+
+   /** Name of the input file for this day */
+   private String inputFileName() {
+      return String.format("day%d.txt", day);
+   }
+
+   /**
+    * Use the first command line argument, if there is one, as
+    * the input path for the puzzles. A {@code --verify} argument
+    * sets the {@value #VERIFY_PROPERTY} property.
+    *
+    * @param args the command line arguments.
+    */
+   protected static void inputFrom(String[] args) {
+      boolean pathSet = false;
+      for (String arg : args) {
+         if ("--verify".equals(arg)) {
+            System.setProperty(VERIFY_PROPERTY, "true");
+         } else if (!pathSet) {
+            System.setProperty(INPUT_PROPERTY, arg);
+            pathSet = true;
+         }
       }
    }
 
+   /** The day of this puzzle */
+   public int day() {
+      return day;
+   }
+
+   /**
+    * Parse the input for this day into the model that both
+    * parts are solved against. Called at most once per puzzle.
+    *
+    * @return the parsed input.
+    */
+   protected abstract T parseInput();
+
+   /**
+    * The parsed input for this day, it is parsed on first use
+    * and shared by both parts after that. Parts must not modify
+    * the returned model.
+    *
+    * @return the parsed input.
+    */
+   protected final T input() {
+      T parsed = input;
+      if (parsed == null) {
+         synchronized (this) {
+            parsed = input;
+            if (parsed == null) {
+               PuzzlePhaseEvent event = new PuzzlePhaseEvent();
+               event.begin();
+               long start = System.nanoTime();
+               parsed = parseInput();
+               parseNanos = System.nanoTime() - start;
+               commit(event, PuzzlePhaseEvent.PARSE, 0);
+               input = parsed;
+            }
+         }
+      }
+
+      return parsed;
+   }
+
+   /**
+    * A fresh incremental solver for this day, for puzzles whose
+    * answers can be kept up to date as lines arrive.
+    *
+    * @return the incremental solver, or empty if this day can only
+    *         be solved once the whole input is known.
+    */
+   public Optional<IncrementalPuzzle> incremental() {
+      return Optional.empty();
+   }
+
    /** Solve part one */
    public abstract long solvePartOne();
 
    /** Solve part two */
    public abstract long solvePartTwo();
 
-   /** Calls the methods to solve each puzzle and prints the answers */
+   /**
+    * Solve a part, recording it as a {@link PuzzlePhaseEvent}.
+    *
+    * @param phase the phase of the part.
+    * @param part the method solving the part.
+    * @return the answer to the part.
+    */
+   final long solve(String phase, LongSupplier part) {
+      PuzzlePhaseEvent event = new PuzzlePhaseEvent();
+      event.begin();
+      long result = part.getAsLong();
+      commit(event, phase, result);
+      return result;
+   }
+
+   /**
+    * Tag identifying the code that solves this puzzle, stored
+    * answers are only used while it stays the same. By default
+    * it is a digest of every class file the puzzles are loaded
+    * from, so editing any of them discards the stored answers.
+    * The digest is computed once. If the class files cannot be
+    * listed, only the puzzle class and its nested classes are
+    * digested. Days that can be solved in more than one way add
+    * the way they were solved.
+    *
+    * @return the solver version.
+    */
+   protected String solverVersion() {
+      return CODE_VERSIONS.get(getClass());
+   }
+
+   /**
+    * Digest of all the class files next to this one, and of those
+    * next to the vector kernels, which are compiled on their own
+    * and may be loaded from another directory. {@code null} if the
+    * class files cannot be listed.
+    */
+   private static final class CodeDigest {
+      static final String VALUE = digest();
+
+      private static String digest() {
+         try {
+            Path main = location(AdventOfCodePuzzle.class);
+            if (main == null) {
+               return null;
+            }
+
+            Set<Path> locations = new LinkedHashSet<>();
+            locations.add(main);
+            Path vector = vectorLocation();
+            if (vector != null) {
+               locations.add(vector);
+            }
+
+            MessageDigest digest = AnswerStore.sha256();
+            for (Path location : locations) {
+               if (Files.isDirectory(location)) {
+                  update(digest, location);
+               } else {
+                  try (FileSystem jar = FileSystems.newFileSystem(location)) {
+                     update(digest, jar.getPath("/"));
+                  }
+               }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+         } catch (IOException | URISyntaxException | UncheckedIOException exception) {
+            System.err.printf("Not digesting class files: %s%n", exception);
+            return null;
+         }
+      }
+
+      /** Directory or jar the class was loaded from, or {@code null} if not a local file */
+      private static Path location(Class<?> type) throws URISyntaxException {
+         CodeSource source = type.getProtectionDomain().getCodeSource();
+         if (source == null || !"file".equals(source.getLocation().getProtocol())) {
+            return null;
+         }
+         return Path.of(source.getLocation().toURI());
+      }
+
+      /** Location of the vector kernels, loaded but not initialized, or {@code null} if they are missing */
+      private static Path vectorLocation() throws URISyntaxException {
+         try {
+            return location(Class.forName(LongKernels.VECTOR_CLASS, false, AdventOfCodePuzzle.class.getClassLoader()));
+         } catch (ClassNotFoundException | LinkageError exception) {
+            return null;
+         }
+      }
+
+      /** Add the names and contents of the class files under the root, in name order */
+      private static void update(MessageDigest digest, Path root) throws IOException {
+         try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".class")).sorted().toList()) {
+               digest.update(root.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+               digest.update(Files.readAllBytes(file));
+            }
+         }
+      }
+   }
+
+   private static void updateWithClassFiles(MessageDigest digest, Class<?> type) {
+      String file = type.getName().substring(type.getPackageName().length() + 1) + ".class";
+      try (InputStream stream = type.getResourceAsStream(file)) {
+         if (stream != null) {
+            digest.update(stream.readAllBytes());
+         }
+      } catch (IOException exception) {
+         throw new UncheckedIOException(exception);
+      }
+
+      Class<?>[] nested = type.getDeclaredClasses();
+      Arrays.sort(nested, Comparator.comparing(Class::getName));
+      for (Class<?> inner : nested) {
+         updateWithClassFiles(digest, inner);
+      }
+   }
+
+   /** Check if stored answers are recomputed and compared */
+   private static boolean verify() {
+      return Boolean.getBoolean(VERIFY_PROPERTY);
+   }
+
+   /** Key of the answer to a part in the answer store */
+   private byte[] answerKey(String phase) {
+      byte[] digest = inputDigest;
+      if (digest == null) {
+         synchronized (this) {
+            digest = inputDigest;
+            if (digest == null) {
+               digest = mapInput().sha256();
+               inputDigest = digest;
+            }
+         }
+      }
+
+      return AnswerStore.key(digest, solverVersion(), day, phase);
+   }
+
+   /**
+    * Check if both answers can be read from the answer store,
+    * in which case the input never needs to be parsed.
+    */
+   final boolean answersStored() {
+      AnswerStore store = AnswerStore.shared();
+      return store != null && !verify()
+              && store.get(answerKey(PuzzlePhaseEvent.PART_ONE)).isPresent()
+              && store.get(answerKey(PuzzlePhaseEvent.PART_TWO)).isPresent();
+   }
+
+   /** Check if the answer to the phase came from the answer store */
+   final boolean isStored(String phase) {
+      return storedPhases.contains(phase);
+   }
+
+   /**
+    * Answer a part, from the answer store if it has been solved
+    * before for the same input and solver version, otherwise by
+    * solving it and storing the result. In verify mode the part
+    * is always solved and must match the stored answer.
+    *
+    * @param phase the phase of the part.
+    * @param part the method solving the part.
+    * @return the answer to the part.
+    * @throws IllegalStateException if verifying and the answer
+    *         differs from the stored one.
+    */
+   final long answer(String phase, LongSupplier part) {
+      AnswerStore store = AnswerStore.shared();
+      if (store == null) {
+         return solve(phase, part);
+      }
+
+      byte[] key = answerKey(phase);
+      OptionalLong stored = store.get(key);
+      if (stored.isPresent() && !verify()) {
+         storedPhases.add(phase);
+         return stored.getAsLong();
+      }
+
+      long result = solve(phase, part);
+      if (stored.isPresent() && stored.getAsLong() != result) {
+         throw new IllegalStateException(String.format("Day %d %s answered %d, but %d is stored",
+                 day, phase, result, stored.getAsLong()));
+      }
+
+      store.put(key, result);
+      return result;
+   }
+
+   /** Fill in and commit the event, if it is being recorded */
+   private void commit(PuzzlePhaseEvent event, String phase, long result) {
+      event.end();
+      if (event.shouldCommit()) {
+         event.day = day;
+         event.phase = phase;
+         event.inputBytes = inputBytes;
+         event.result = result;
+         event.commit();
+      }
+   }
+
+   /**
+    * Calls the methods to solve each puzzle and prints the
+    * answers. Answers found in the answer store are printed
+    * without solving, unless verifying.
+    */
    public void solvePuzzles() {
-      long partOneSolution = solvePartOne();
-      long partTwoSolution = solvePartTwo();
+      boolean parsed = !answersStored();
+      if (parsed) {
+         input();
+      }
+
+      long start = System.nanoTime();
+      long partOneSolution = answer(PuzzlePhaseEvent.PART_ONE, this::solvePartOne);
+      long partOneNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      long partTwoSolution = answer(PuzzlePhaseEvent.PART_TWO, this::solvePartTwo);
+      long partTwoNanos = System.nanoTime() - start;
+
+      if (parsed) {
+         System.out.printf("Parsed input in %.3f ms\n", parseNanos / 1e6);
+      }
+      System.out.printf("Answer to day one = \"%d\" (%.3f ms%s)\n", partOneSolution, partOneNanos / 1e6,
+              isStored(PuzzlePhaseEvent.PART_ONE) ? ", stored" : "");
+      System.out.printf("Answer to day two = \"%d\" (%.3f ms%s)\n", partTwoSolution, partTwoNanos / 1e6,
+              isStored(PuzzlePhaseEvent.PART_TWO) ? ", stored" : "");
+
+      // Timings of any methods annotated with @Timed
+      if (!MetricsRegistry.global().snapshot().isEmpty()) {
+         System.out.print(MetricsRegistry.global().toText());
+      }
+
+      // Statistics of any methods annotated with @Cache
+      for (CacheStats stats : CacheAspect.stats()) {
+         System.out.println(stats);
+      }
 
-      System.out.printf("Answer to day one = \"%d\"\n", partOneSolution);
-      System.out.printf("Answer to day two = \"%d\"\n", partTwoSolution);
+      // Done with this input, don't hold on to its cached values
+      CacheAspect.invalidate(this);
    }
 }
@@ -18,75 +18,228 @@
  */
 package io.github.brm.aoc2025;
 
+import io.github.brm.aoc2025.cmn.InputLine;
+import io.github.brm.aoc2025.cmn.MappedInput;
 
-import static java.lang.Integer.parseInt;
+import java.util.Optional;
 
 /**
  * Day 1: Secret Entrance
  *
+ * <p> Rather than turning a dial one rotation at a time, the
+ * rotations are folded into a {@link Rotations} summary that
+ * answers both parts for any starting position. Summaries of
+ * consecutive runs of rotations combine associatively, so the
+ * input is split into slices that are summarized in parallel.
+ *
  * @author benjaminmichael
  * @since 12-3-25
  */
-public class Day01 extends AdventOfCodePuzzle {
+public class Day01 extends AdventOfCodePuzzle<Day01.Rotations> {
     private static final int DIAL_SIZE = 100;
+    /** Where the dial starts */
+    private static final int START = 50;
+    /** Smallest slice of input worth summarizing on its own */
+    private static final long MIN_SLICE_BYTES = 1 << 16;
+
+    /**
+     * Summary of a run of rotations, as a function of the position
+     * the dial is at before the first one.
+     */
+    static final class Rotations {
+        /** No rotations at all */
+        static final Rotations NONE = new Rotations();
+
+        /** How far the run moves the dial, in {@code [0, DIAL_SIZE)} */
+        private int offset;
+        /** Times the dial is left at 0, by starting position */
+        private final long[] landings = new long[DIAL_SIZE];
+        /** Times the dial passes or lands on 0, by starting position */
+        private final long[] passes = new long[DIAL_SIZE];
+
+        /**
+         * Summarize the rotations in the input, one per line as
+         * {@code L<n>} or {@code R<n>}.
+         *
+         * <p> The dial is at {@code start + offset} before each
+         * rotation, so a rotation that hits 0 from position
+         * {@code p} does so for the start {@code p - offset}. The
+         * positions {@code p} that hit 0 form a range, which is
+         * recorded in a cyclic difference array, so each rotation
+         * costs the same however large the dial.
+         */
+        static Rotations of(MappedInput input) {
+            Rotations rotations = new Rotations();
+            long[] landings = rotations.landings;
+            // passes[p] - passes[p - 1], wrapping around the dial
+            long[] passDeltas = new long[DIAL_SIZE];
+            long[] offset = {0};
+            long[] fullTurns = {0};
+
+            input.forEachLine(line -> {
+                int turn = parseTurn(line);
+                if (turn == Integer.MIN_VALUE) {
+                    return;
+                }
+
+                int before = (int) offset[0];
+                int distance = Math.abs(turn);
+                fullTurns[0] += distance / DIAL_SIZE;
+                int partial = distance % DIAL_SIZE;
+
+                // Positions that reach 0 in the last partial turn
+                if (partial > 0) {
+                    if (turn > 0) {
+                        addRange(passDeltas, DIAL_SIZE - partial - before, partial);
+                    } else {
+                        addRange(passDeltas, 1 - before, partial);
+                    }
+                }
+
+                offset[0] = Math.floorMod(before + turn, DIAL_SIZE);
+                landings[Math.floorMod(-(int) offset[0], DIAL_SIZE)]++;
+            });
 
-    /** The dial, starts at 50 */
-    private static class Dial {
-        public int value = 50;
-        public int hits = 0;
+            long running = 0;
+            for (int start = 0; start < DIAL_SIZE; start++) {
+                running += passDeltas[start];
+                rotations.passes[start] = running + fullTurns[0];
+            }
+            rotations.offset = (int) offset[0];
+            return rotations;
+        }
 
-        public Dial merge(Dial other) {
-            this.hits += other.hits;
-            return this;
+        /** Add one to the {@code length} starts beginning at {@code from}, wrapping around */
+        private static void addRange(long[] deltas, int from, int length) {
+            int first = Math.floorMod(from, DIAL_SIZE);
+            int end = first + length;
+            deltas[first]++;
+            if (end < DIAL_SIZE) {
+                deltas[end]--;
+            } else {
+                // Wraps past the top of the dial
+                deltas[0]++;
+                deltas[end - DIAL_SIZE]--;
+            }
         }
 
-        public int hits() {
-            return hits;
+        /**
+         * Summary of this run followed by the next one. The next
+         * run starts wherever this run leaves the dial.
+         */
+        Rotations then(Rotations next) {
+            if (this == NONE) {
+                return next;
+            } else if (next == NONE) {
+                return this;
+            }
+
+            Rotations combined = new Rotations();
+            combined.offset = (offset + next.offset) % DIAL_SIZE;
+            for (int start = 0; start < DIAL_SIZE; start++) {
+                int middle = (start + offset) % DIAL_SIZE;
+                combined.landings[start] = landings[start] + next.landings[middle];
+                combined.passes[start] = passes[start] + next.passes[middle];
+            }
+            return combined;
         }
     }
 
-    private static int mapLineToTurn(String line) {
-        line = line.trim();
-        int sign = (line.charAt(0) == 'L') ? -1 : 1;
-        return sign * parseInt(line.substring(1));
+    /**
+     * Parse a rotation straight from the characters of the line,
+     * which for an {@link InputLine} are its bytes.
+     *
+     * @return the signed rotation, or {@link Integer#MIN_VALUE}
+     * for a blank line.
+     */
+    private static int parseTurn(CharSequence line) {
+        int from = 0;
+        int to = line.length();
+        while (from < to && line.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && line.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return Integer.MIN_VALUE;
+        }
+
+        int sign = (line.charAt(from) == 'L') ? -1 : 1;
+        int distance = 0;
+        for (int i = from + 1; i < to; i++) {
+            int digit = line.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a rotation: \"" + line + "\"");
+            }
+            distance = distance * 10 + digit;
+        }
+        return sign * distance;
+    }
+
+    /** Turns a dial one rotation at a time as the rotations arrive */
+    private static final class Incremental implements IncrementalPuzzle {
+        private int position = START;
+        private volatile long landings;
+        private volatile long passes;
+
+        @Override
+        public void accept(CharSequence line) {
+            int turn = parseTurn(line);
+            if (turn == Integer.MIN_VALUE) {
+                return;
+            }
+
+            int distance = Math.abs(turn);
+            int partial = distance % DIAL_SIZE;
+            long passed = distance / DIAL_SIZE;
+            if (partial > 0 && (turn > 0 ? position + partial >= DIAL_SIZE : position != 0 && position <= partial)) {
+                passed++;
+            }
+
+            position = Math.floorMod(position + turn, DIAL_SIZE);
+            passes += passed;
+            if (position == 0) {
+                landings++;
+            }
+        }
+
+        @Override
+        public long partOne() {
+            return landings;
+        }
+
+        @Override
+        public long partTwo() {
+            return passes;
+        }
+    }
+
+    @Override
+    public Optional<IncrementalPuzzle> incremental() {
+        return Optional.of(new Incremental());
+    }
+
+    @Override
+    protected Rotations parseInput() {
+        return mapInput().parallelSlices(MIN_SLICE_BYTES).parallelStream()
+                .map(Rotations::of)
+                .reduce(Rotations.NONE, Rotations::then);
     }
 
     @Override
     public long solvePartOne() {
-        return readInput(Day01::mapLineToTurn).reduce(
-                new Dial(),
-                (dial, turn) -> {
-                    dial.value = Math.floorMod(dial.value + turn, DIAL_SIZE);
-                    if (dial.value == 0) {
-                        dial.hits++;
-                    }
-                    return dial;
-                    },
-                Dial::merge
-        ).hits();
+        return input().landings[START];
     }
 
     @Override
     public long solvePartTwo() {
-        return readInput(Day01::mapLineToTurn).reduce(
-                new Dial(),
-                (dial, turn) -> {
-                    dial.hits += (Math.abs(turn) / 100);
-                    int remainder = (Math.abs(turn) > 100) ? turn % 100 : turn;
-                    int newValue = Math.floorMod(dial.value + remainder, DIAL_SIZE);
-                    if (newValue == 0 || ((remainder < 0) ? newValue > dial.value : newValue < dial.value) && dial.value != 0) {
-                        dial.hits++;
-                    }
-
-                    dial.value = newValue;
-                    return dial;
-                },
-                Dial::merge
-        ).hits();
+        return input().passes[START];
     }
 
     /** Solve day one */
     public static void main(String[] args) {
+        inputFrom(args);
         new Day01().solvePuzzles();
     }
 }
@@ -18,77 +18,214 @@
  */
 package io.github.brm.aoc2025;
 
-import java.util.Objects;
-import java.util.stream.LongStream;
-import java.util.stream.Stream;
+import java.math.BigInteger;
+import java.util.List;
 
 import static java.lang.Long.parseLong;
 
 /**
  * Day 2: Gift Shop
  *
+ * <p> An invalid ID of {@code L} digits is a {@code d} digit
+ * pattern {@code p} repeated {@code L / d} times, which is
+ * {@code p * R} with {@code R = 1 0..0 1 0..0 1} the number that
+ * repeats a {@code d} digit block. So the invalid IDs of a given
+ * shape inside a range are just a run of consecutive patterns,
+ * and their sum is an arithmetic series. Nothing is enumerated,
+ * however wide the range.
+ *
  * @author benjaminmichael
  * @since 12-3-25
  */
-public class Day02 extends AdventOfCodePuzzle {
+public class Day02 extends AdventOfCodePuzzle<List<Day02.IdRange>> {
+
+    /** Most digits a positive long can have */
+    private static final int MAX_DIGITS = 19;
+    /** Powers of ten that fit in a long */
+    private static final long[] POW10 = new long[MAX_DIGITS];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < MAX_DIGITS; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
 
     /** Range of IDs */
-    private record IdRange(long start, long end) {
+    record IdRange(long start, long end) {
 
         /** Factory method */
         public static IdRange from(String input) {
             String[] range = input.split("-");
-            long start = parseLong(range[0]);
-            long end = parseLong(range[1]);
+            long start = parseLong(range[0].trim());
+            long end = parseLong(range[1].trim());
             return new IdRange(start, end);
         }
+    }
 
-        /** Stream over the ID range */
-        public Stream<String> stream() {
-            return LongStream.rangeClosed(start, end)
-                    .boxed()
-                    .map(Objects::toString);
+    /**
+     * Invalid IDs found in some ranges.
+     *
+     * @param sum the sum of the IDs.
+     * @param count the number of IDs.
+     */
+    record InvalidIds(BigInteger sum, long count) {
+        static final InvalidIds NONE = new InvalidIds(BigInteger.ZERO, 0);
+
+        InvalidIds plus(InvalidIds other) {
+            return new InvalidIds(sum.add(other.sum), count + other.count);
+        }
+
+        InvalidIds times(int factor) {
+            return new InvalidIds(sum.multiply(BigInteger.valueOf(factor)), count * factor);
         }
     }
 
+    @Override
+    protected List<IdRange> parseInput() {
+        return readInput(",", IdRange::from).toList();
+    }
+
     @Override
     public long solvePartOne() {
-        return readInput(",", IdRange::from)
-                .flatMap(IdRange::stream)
-                .filter(id -> id.length() % 2 == 0)
-                .filter(id -> {
-                    int middle = id.length() / 2;
-                    return id.substring(0, middle).equals(id.substring(middle));
-                })
-                .mapToLong(Long::parseLong)
-                .sum();
+        return input().stream()
+                .map(Day02::doubledIds)
+                .reduce(InvalidIds.NONE, InvalidIds::plus)
+                .sum().longValueExact();
     }
 
     @Override
     public long solvePartTwo() {
-        return readInput(",", IdRange::from)
-                .flatMap(IdRange::stream)
-                .filter(this::hasRepeatedSequence)
-                .mapToLong(Long::parseLong)
-                .sum();
-    }
-
-    /** Check for part two */
-    private boolean hasRepeatedSequence(String source) {
-        for (int i = 1; i < source.length(); i++) {
-            if (source.length() % i == 0) {
-                String str = source.substring(0, i);
-                if (str.repeat(source.length() / i).equals(source)) {
-                    return true;
+        return input().stream()
+                .map(Day02::repeatedIds)
+                .reduce(InvalidIds.NONE, InvalidIds::plus)
+                .sum().longValueExact();
+    }
+
+    /** The IDs in the range that are a pattern repeated exactly twice */
+    static InvalidIds doubledIds(IdRange range) {
+        InvalidIds found = InvalidIds.NONE;
+        for (int length = digits(range.start()); length <= digits(range.end()); length++) {
+            if (length % 2 == 0) {
+                found = found.plus(repeats(range, length, length / 2));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The IDs in the range that are a pattern repeated at least
+     * twice.
+     *
+     * <p> A pattern of {@code d} digits that is itself repeating
+     * is also a longer or shorter pattern, e.g. {@code 1111} is
+     * both {@code 1} and {@code 11} repeated, so the shapes are
+     * combined by inclusion and exclusion: the IDs of a length
+     * {@code L} are the sum over proper divisors {@code d} of
+     * {@code -mobius(L / d)} times the IDs repeating a {@code d}
+     * digit pattern. That counts every ID exactly once, whatever
+     * its shortest pattern.
+     */
+    static InvalidIds repeatedIds(IdRange range) {
+        InvalidIds found = InvalidIds.NONE;
+        for (int length = digits(range.start()); length <= digits(range.end()); length++) {
+            for (int period = 1; period < length; period++) {
+                if (length % period == 0 && mobius(length / period) != 0) {
+                    found = found.plus(repeats(range, length, period).times(-mobius(length / period)));
                 }
             }
         }
+        return found;
+    }
 
+    /**
+     * The IDs in the range with {@code length} digits that repeat
+     * a {@code period} digit pattern. Patterns cannot start with a
+     * zero, so they are the numbers of exactly {@code period}
+     * digits.
+     */
+    private static InvalidIds repeats(IdRange range, int length, int period) {
+        long multiplier = 0;
+        for (int i = 0; i < length; i += period) {
+            multiplier = Math.addExact(multiplier, POW10[i]);
+        }
+
+        long first = Math.max(POW10[period - 1], ceilDiv(Math.max(range.start(), 1), multiplier));
+        long last = Math.min(POW10[period] - 1, range.end() / multiplier);
+        if (first > last) {
+            return InvalidIds.NONE;
+        }
+
+        long count = last - first + 1;
+        BigInteger patterns = BigInteger.valueOf(first).add(BigInteger.valueOf(last))
+                .multiply(BigInteger.valueOf(count))
+                .shiftRight(1);
+        return new InvalidIds(patterns.multiply(BigInteger.valueOf(multiplier)), count);
+    }
+
+    /** Number of decimal digits of a non negative value */
+    private static int digits(long value) {
+        int digits = 1;
+        while (digits < MAX_DIGITS && value >= POW10[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return -Math.floorDiv(-a, b);
+    }
+
+    /** The Mobius function, {@code 0} if {@code n} has a square factor */
+    private static int mobius(int n) {
+        int result = 1;
+        for (int p = 2; p * p <= n; p++) {
+            if (n % p == 0) {
+                n /= p;
+                if (n % p == 0) {
+                    return 0;
+                }
+                result = -result;
+            }
+        }
+        return n > 1 ? -result : result;
+    }
+
+    /**
+     * Check if the ID is a pattern repeated at least twice, one ID
+     * at a time. Much slower than {@link #repeatedIds} for a range,
+     * but useful to check it against.
+     */
+    static boolean hasRepeatedSequence(long id) {
+        int length = digits(id);
+        for (int period = 1; period < length; period++) {
+            if (length % period == 0 && isRepeating(id, period)) {
+                return true;
+            }
+        }
         return false;
     }
 
+    /** Check if the ID is a pattern repeated exactly twice, one ID at a time */
+    static boolean isDoubled(long id) {
+        int length = digits(id);
+        return length % 2 == 0 && isRepeating(id, length / 2);
+    }
+
+    /** Check if every block of {@code period} digits of the ID is the same */
+    private static boolean isRepeating(long id, int period) {
+        long block = id % POW10[period];
+        for (long rest = id / POW10[period]; rest > 0; rest /= POW10[period]) {
+            if (rest % POW10[period] != block) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /** Solve day two */
     public static void main(String[] args) {
+        inputFrom(args);
         new Day02().solvePuzzles();
     }
 }
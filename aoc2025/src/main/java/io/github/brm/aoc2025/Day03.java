@@ -18,63 +18,207 @@
  */
 package io.github.brm.aoc2025;
 
+import io.github.brm.aoc2025.cmn.InputLine;
+import io.github.brm.aoc2025.cmn.MappedInput;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
 /**
  * Day 3: Lobby
  *
+ * <p> The largest joltage of a bank is its largest subsequence of
+ * {@code k} digits, found with a monotonic stack in a single pass:
+ * a digit pops every smaller digit before it while there are still
+ * digits left to drop. Banks are read straight from the input
+ * bytes, and slices of the input are worked on in parallel.
+ *
  * @author benjaminmichael
  * @since 12-3-25
  */
-public class Day03 extends AdventOfCodePuzzle {
+public class Day03 extends AdventOfCodePuzzle<MappedInput> {
+    /** Batteries turned on in part one */
+    private static final int PART_ONE_BATTERIES = 2;
+    /** Batteries turned on in part two */
+    private static final int PART_TWO_BATTERIES = 12;
+    /** Smallest slice of input worth working on alone */
+    private static final long MIN_SLICE_BYTES = 1 << 16;
 
-    /** A battery in the bank */
-    private record Battery(char jolts, int position) { }
+    @Override
+    protected MappedInput parseInput() {
+        return mapInput();
+    }
 
     @Override
     public long solvePartOne() {
-        return readInput()
-                .mapToLong(bank -> findLargestJoltage(bank, 2))
-                .sum();
+        return totalJoltage(input(), PART_ONE_BATTERIES).longValueExact();
     }
 
     @Override
     public long solvePartTwo() {
-        return readInput()
-                .mapToLong(bank -> findLargestJoltage(bank, 12))
-                .sum();
+        return totalJoltage(input(), PART_TWO_BATTERIES).longValueExact();
+    }
+
+    /**
+     * Add up the largest joltage of every bank in the input.
+     *
+     * @param input the banks, one per line.
+     * @param batteries the number of batteries to turn on in each bank.
+     * @return the total joltage.
+     */
+    static BigInteger totalJoltage(MappedInput input, int batteries) {
+        return input.parallelSlices(MIN_SLICE_BYTES).parallelStream()
+                .map(slice -> new Totals(batteries).addAll(slice).total())
+                .reduce(BigInteger.ZERO, BigInteger::add);
+    }
+
+    /**
+     * Find the largest joltage of a single bank as a string of
+     * digits, for banks whose joltage does not fit in a long.
+     *
+     * @param bank the bank, one digit per battery.
+     * @param batteries the number of batteries to turn on.
+     * @return the joltage.
+     */
+    static String largestJoltage(CharSequence bank, int batteries) {
+        byte[] digits = new byte[batteries];
+        int length = bank instanceof InputLine line
+                ? select(line.buffer(), line.start(), line.start() + line.length(), digits)
+                : select(ByteBuffer.wrap(bank.toString().getBytes(StandardCharsets.ISO_8859_1)), 0, bank.length(), digits);
+        return new String(digits, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Pick the largest subsequence of {@code digits.length} digits
+     * from the bytes in {@code [from, to)}. Each byte is pushed and
+     * popped at most once, so this is linear in the length of the
+     * bank whatever the number of digits. Surrounding whitespace is
+     * ignored.
+     *
+     * @param bytes the bytes of the bank.
+     * @param from start of the bank, inclusive.
+     * @param to end of the bank, exclusive.
+     * @param digits where to write the digits picked.
+     * @return the number of digits picked, less than asked for
+     *         only if the bank is too short.
+     */
+    static int select(ByteBuffer bytes, int from, int to, byte[] digits) {
+        while (from < to && bytes.get(from) <= ' ') {
+            from++;
+        }
+        while (to > from && bytes.get(to - 1) <= ' ') {
+            to--;
+        }
+
+        int size = 0;
+        int drops = to - from - digits.length;
+        for (int i = from; i < to; i++) {
+            byte digit = bytes.get(i);
+            if (digit < '0' || digit > '9') {
+                throw new IllegalArgumentException("Not a joltage at " + (i - from) + ": " + (char) digit);
+            }
+
+            while (drops > 0 && size > 0 && digits[size - 1] < digit) {
+                size--;
+                drops--;
+            }
+
+            if (size < digits.length) {
+                digits[size++] = digit;
+            } else {
+                drops--;
+            }
+        }
+
+        return size;
     }
 
-    private long findLargestJoltage(String bankString, int numBatteries) {
-        int len = bankString.length();
-        char[] bank = bankString.toCharArray();
-        Battery[] batteries = new Battery[numBatteries];
-
-        for (int i = 0; i < len; i++) {
-            char jolts = bank[i];
-            for (int j = 0; j < numBatteries; j++) {
-                if (i + (numBatteries - j - 1) >= len) {
-                    continue;
-                }
-
-                if (batteries[j] == null || (jolts > batteries[j].jolts && i > batteries[j].position)) {
-                    for (int k = j, n = i; k < numBatteries; k++, n++) {
-                        batteries[k] = new Battery(bank[n], n);
-                    }
-                    break;
-                }
+    /**
+     * Running total of the joltage of many banks. The digits are
+     * summed column by column, so no bank ever has to be turned
+     * into a number and adding one allocates nothing.
+     */
+    private static final class Totals {
+        private final byte[] digits;
+        /** Sum of the digits in each position, most significant first */
+        private final long[] columns;
+
+        Totals(int batteries) {
+            this.digits = new byte[batteries];
+            this.columns = new long[batteries];
+        }
+
+        /** Add the bank in {@code [from, to)} of the bytes */
+        void add(ByteBuffer bytes, int from, int to) {
+            int length = select(bytes, from, to, digits);
+            if (length == 0) {
+                return;
+            }
+
+            // A short bank is still a number, aligned to the right
+            for (int i = 0, column = columns.length - length; i < length; i++, column++) {
+                columns[column] += digits[i] - '0';
             }
         }
 
-        long totalJolatage = 0;
-        for (Battery battery : batteries) {
-            int jolts = battery.jolts - '0';
-            totalJolatage = totalJolatage * 10 + jolts;
+        /** Add every bank of the input */
+        Totals addAll(MappedInput input) {
+            input.forEachLine(line -> add(line.buffer(), line.start(), line.start() + line.length()));
+            return this;
         }
 
-        return totalJolatage;
+        /** The total joltage of the banks added */
+        BigInteger total() {
+            BigInteger total = BigInteger.ZERO;
+            for (long column : columns) {
+                total = total.multiply(BigInteger.TEN).add(BigInteger.valueOf(column));
+            }
+            return total;
+        }
+    }
+
+    /** Adds up the joltage of each bank as it arrives */
+    private static final class Incremental implements IncrementalPuzzle {
+        private final Totals partOne = new Totals(PART_ONE_BATTERIES);
+        private final Totals partTwo = new Totals(PART_TWO_BATTERIES);
+        /** Bytes of the current line, reused between lines */
+        private ByteBuffer line = ByteBuffer.allocate(128);
+
+        @Override
+        public synchronized void accept(CharSequence bank) {
+            int length = bank.length();
+            if (line.capacity() < length) {
+                line = ByteBuffer.allocate(Math.max(length, line.capacity() * 2));
+            }
+            for (int i = 0; i < length; i++) {
+                line.put(i, (byte) bank.charAt(i));
+            }
+
+            partOne.add(line, 0, length);
+            partTwo.add(line, 0, length);
+        }
+
+        @Override
+        public synchronized long partOne() {
+            return partOne.total().longValueExact();
+        }
+
+        @Override
+        public synchronized long partTwo() {
+            return partTwo.total().longValueExact();
+        }
+    }
+
+    @Override
+    public Optional<IncrementalPuzzle> incremental() {
+        return Optional.of(new Incremental());
     }
 
     /** Solve day three */
     public static void main(String[] args) {
+        inputFrom(args);
         new Day03().solvePuzzles();
     }
 }
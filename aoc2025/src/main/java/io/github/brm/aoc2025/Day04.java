@@ -18,111 +18,644 @@
  */
 package io.github.brm.aoc2025;
 
-import java.util.ArrayDeque;
-import java.util.HashSet;
+import io.github.brm.aoc2025.cmn.Grid;
+import io.github.brm.aoc2025.cmn.MappedInput;
+import io.github.brm.aoc2025.cmn.MetricsRegistry;
+import io.github.brm.aoc2025.cmn.PuzzleStepEvent;
+import io.github.brm.aoc2025.cmn.Timer;
+import io.github.brm.aoc2025.cmn.collections.IntArrayDeque;
+import io.github.brm.aoc2025.cmn.collections.LongLongHashMap;
+import io.github.brm.aoc2025.cmn.collections.PackedPoint;
+
+import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
-import java.util.Set;
+import java.util.Locale;
+import java.util.stream.IntStream;
 
 /**
  * Day 4: Printing Department
  *
+ * <p> The floor is solved in one of several modes, picked with the
+ * {@value #MODE_PROPERTY} system property:
+ * <ul>
+ *    <li>{@code grid}, a {@link Grid} of cells with a work queue of
+ *    rolls to recheck.</li>
+ *    <li>{@code bitboard}, where each row is a bitset and all the
+ *    rolls that can be moved are taken away at once, one wave
+ *    after another, 64 cells at a time.</li>
+ *    <li>{@code sparse}, where only the rolls are kept, for huge
+ *    floors that are mostly empty.</li>
+ *    <li>{@code auto}, the default, which counts the rolls first
+ *    and picks {@code sparse} if fewer than 0.1% of the cells have
+ *    a roll, {@code bitboard} otherwise.</li>
+ * </ul>
+ *
  * @author benjaminmichael
  * @since 12-4-2025
  */
-public class Day04 extends AdventOfCodePuzzle {
+public class Day04 extends AdventOfCodePuzzle<Day04.Floor> {
+
+   /** System property naming the {@link Mode} to solve with */
+   static final String MODE_PROPERTY = "aoc.day04.mode";
+
+   private static final byte ROLL = '@';
+   private static final byte EMPTY = '.';
+   /** A roll with this many neighboring rolls cannot be moved */
+   private static final int CROWDED = 4;
+   /** Share of cells with a roll below which a floor is solved as sparse */
+   private static final double SPARSE_DENSITY = 0.001;
+   /** Smallest slice of input worth reading on its own */
+   private static final long MIN_SLICE_BYTES = 1 << 16;
+
+   /** Ways of solving the floor */
+   enum Mode {
+      GRID, BITBOARD, SPARSE, AUTO;
+
+      /** The mode set by {@value #MODE_PROPERTY} */
+      static Mode configured() {
+         return valueOf(System.getProperty(MODE_PROPERTY, AUTO.name()).toUpperCase(Locale.ROOT));
+      }
+   }
+
+   /** A floor of paper rolls */
+   interface Floor {
 
-   /** A 2D move */
-   private record Move(int r, int c) { }
+      /** Number of rolls that can be moved straight away */
+      long accessibleRolls();
 
-   private static final List<Move> moves = List.of(
-           new Move(1, 0), new Move(-1, 0), new Move(0, 1), new Move(0, -1),
-           new Move(-1, -1), new Move(-1, 1), new Move(1, 1), new Move(1, -1));
+      /** Number of rolls that can be moved by moving rolls until none can be */
+      long removableRolls();
+   }
+
+   /**
+    * Size of part of a floor map.
+    *
+    * @param rows number of rows, blank lines are not rows.
+    * @param width length of the longest row.
+    * @param rolls number of rolls.
+    */
+   private record Shape(int rows, int width, long rolls) {
+      static final Shape EMPTY = new Shape(0, 0, 0);
+
+      /** Measure a slice of the input */
+      static Shape of(MappedInput slice) {
+         long[] shape = new long[3];
+         slice.forEachLine(line -> {
+            if (!line.isBlank()) {
+               shape[0]++;
+               shape[1] = Math.max(shape[1], line.length());
+               for (int c = line.indexOf(ROLL, 0); c >= 0; c = line.indexOf(ROLL, c + 1)) {
+                  shape[2]++;
+               }
+            }
+         });
+         return new Shape(Math.toIntExact(shape[0]), (int) shape[1], shape[2]);
+      }
+
+      /** The shape of this part followed by the other */
+      Shape plus(Shape other) {
+         return new Shape(Math.addExact(rows, other.rows), Math.max(width, other.width), rolls + other.rolls);
+      }
+
+      /** Share of the cells that have a roll */
+      double density() {
+         return rows == 0 ? 0 : (double) rolls / ((double) rows * width);
+      }
+   }
+
+   @Override
+   protected Floor parseInput() {
+      Mode mode = Mode.configured();
+      if (mode == Mode.GRID) {
+         return new GridFloor(Grid.from(mapInput()));
+      }
+
+      List<MappedInput> slices = mapInput().parallelSlices(MIN_SLICE_BYTES);
+      Shape[] shapes = slices.parallelStream().map(Shape::of).toArray(Shape[]::new);
+      if (mode == Mode.AUTO) {
+         double density = Arrays.stream(shapes).reduce(Shape.EMPTY, Shape::plus).density();
+         mode = density < SPARSE_DENSITY ? Mode.SPARSE : Mode.BITBOARD;
+      }
+
+      return mode == Mode.SPARSE ? SparseFloor.from(slices, shapes) : Bitboard.from(slices, shapes);
+   }
 
    @Override
    public long solvePartOne() {
-      int count = 0;
-      char[][] map = readInput(String::toCharArray).toArray(char[][]::new);
-      for (int row = 0; row < map.length; row++) {
-         for (int col = 0; col < map[row].length; col++) {
-            if (map[row][col] == '@' && canMovePaperRoll(map, row, col)) {
-               count++;
+      return input().accessibleRolls();
+   }
+
+   @Override
+   public long solvePartTwo() {
+      return input().removableRolls();
+   }
+
+   /** Stored answers of one mode are not reused by another */
+   @Override
+   protected String solverVersion() {
+      return super.solverVersion() + " " + MODE_PROPERTY + "=" + Mode.configured();
+   }
+
+   /** A floor held as a grid of cells */
+   private record GridFloor(Grid map) implements Floor {
+
+      @Override
+      public long accessibleRolls() {
+         int count = 0;
+         for (int row = 0; row < map.height(); row++) {
+            for (int cell = map.cell(row, 0), end = cell + map.width(); cell < end; cell++) {
+               if (map.get(cell) == ROLL && canMovePaperRoll(map, cell)) {
+                  count++;
+               }
             }
          }
+
+         return count;
+      }
+
+      /** Check if there are less than 4 adjacent rolls */
+      private static boolean canMovePaperRoll(Grid map, int cell) {
+         return map.countNeighbors(cell, map.neighbors8(), ROLL) < CROWDED;
       }
 
-      return count;
+      @Override
+      public long removableRolls() {
+         int count = 0;
+         // Rolls get removed from the map, so work on a copy
+         Grid map = this.map.copy();
+         int[] neighbors = map.neighbors8();
+
+         IntArrayDeque queue = new IntArrayDeque();
+         boolean[] inQueue = new boolean[map.size()];
+
+         for (int row = 0; row < map.height(); row++) {
+            for (int cell = map.cell(row, 0), end = cell + map.width(); cell < end; cell++) {
+               if (map.get(cell) == ROLL) {
+                  queue.addLast(cell);
+                  inQueue[cell] = true;
+               }
+            }
+         }
+
+         while (!queue.isEmpty()) {
+            int cell = queue.pollFirst();
+            inQueue[cell] = false;
+
+            if (map.get(cell) == ROLL && canMovePaperRoll(map, cell)) {
+               map.set(cell, EMPTY);
+               count++;
+
+               for (int offset : neighbors) {
+                  int next = cell + offset;
+                  if (!inQueue[next] && map.get(next) == ROLL) {
+                     queue.addLast(next);
+                     inQueue[next] = true;
+                  }
+               }
+            }
+         }
+
+         return count;
+      }
    }
 
-   /** Check if there are less than 4 adjacent rolls */
-   private boolean canMovePaperRoll(char[][] map, int r, int c) {
-      if (!inBounds(map, r, c)) {
-         return false;
+   /**
+    * A floor held as one bitset per row, bit {@code c} of a row is
+    * set if there is a roll in column {@code c}. The neighbors of
+    * 64 cells are counted at once by adding the eight shifted
+    * neighbor rows with bitwise adders.
+    *
+    * <p> Rolls are moved in waves: every roll that can be moved
+    * is taken away at once, then the floor is checked again, until
+    * a wave moves nothing. The rows are split into stripes that are
+    * swept in parallel. Each stripe changes its rows in place, so
+    * before a wave the first and last row of every stripe are
+    * copied aside for the stripes next to it to read. A row is only
+    * checked again if it or a row next to it changed in the wave
+    * before.
+    */
+   static final class Bitboard implements Floor {
+      /** Smallest stripe worth sweeping on its own, in words */
+      private static final long MIN_STRIPE_WORDS = 1 << 12;
+
+      private final long[] bits;
+      private final int width;
+      private final int height;
+      /** Words in each row */
+      private final int words;
+
+      private Bitboard(long[] bits, int width, int height) {
+         this.bits = bits;
+         this.width = width;
+         this.height = height;
+         this.words = (width + 63) >>> 6;
       }
 
-      int adjacentRolls = 0;
-      for (Move move : moves) {
-         int newR = r + move.r();
-         int newC = c + move.c();
+      /**
+       * Read the floor straight from the input, skipping blank
+       * lines. The slices are read in parallel, each starting at
+       * the row after the rows of the slices before it.
+       *
+       * @param slices the floor map, split into slices.
+       * @param shapes the shape of each slice.
+       * @return the floor.
+       */
+      static Bitboard from(List<MappedInput> slices, Shape[] shapes) {
+         int[] firstRow = new int[slices.size()];
+         int height = 0;
+         int width = 0;
+         for (int s = 0; s < shapes.length; s++) {
+            firstRow[s] = height;
+            height += shapes[s].rows();
+            width = Math.max(width, shapes[s].width());
+         }
 
-         if (inBounds(map, newR, newC) && map[newR][newC] == '@') {
-            adjacentRolls++;
+         int words = (width + 63) >>> 6;
+         if ((long) height * words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Floor of " + height + "x" + width + " is too large");
          }
+
+         long[] bits = new long[height * words];
+         IntStream.range(0, slices.size()).parallel().forEach(s -> {
+            int[] row = {firstRow[s]};
+            slices.get(s).forEachLine(line -> {
+               if (!line.isBlank()) {
+                  int offset = row[0]++ * words;
+                  for (int c = 0; c < line.length(); c++) {
+                     if (line.byteAt(c) == ROLL) {
+                        bits[offset + (c >>> 6)] |= 1L << c;
+                     }
+                  }
+               }
+            });
+         });
+
+         return new Bitboard(bits, width, height);
       }
 
-      return adjacentRolls < 4;
-   }
+      @Override
+      public long accessibleRolls() {
+         return new Waves(this, "Day04.partOne.wave").next(false);
+      }
 
-   /** Check if the given row/col index is in bounds for the map */
-   private boolean inBounds(char[][] map, int r, int c) {
-      return r >= 0 && r < map.length && c >= 0 && c < map[r].length;
-   }
+      @Override
+      public long removableRolls() {
+         // Rolls get removed from the floor, so work on a copy
+         Waves waves = new Waves(new Bitboard(bits.clone(), width, height), "Day04.partTwo.wave");
+         long count = 0;
+         long removed;
+         while ((removed = waves.next(true)) > 0) {
+            count += removed;
+         }
 
-   @Override
-   public long solvePartTwo() {
-      int count = 0;
-      char[][] map = readInput(String::toCharArray).toArray(char[][]::new);
-
-      Queue<Move> queue = new ArrayDeque<>();
-      Set<Move> inQueue = new HashSet<>();
-
-      for (int i = 0; i < map.length; i++) {
-         for (int j = 0; j < map[i].length; j++) {
-            if (map[i][j] == '@') {
-               Move move = new Move(i, j);
-               queue.add(move);
-               inQueue.add(move);
+         return count;
+      }
+
+      /**
+       * Count the rolls in a row that can be moved, writing them
+       * to the mask. Rows are read from {@code [offset, offset +
+       * words)} of their arrays.
+       *
+       * @return the number of rolls that can be moved.
+       */
+      private static long movable(long[] above, int a, long[] row, int r, long[] below, int b, int words, long[] mask) {
+         long count = 0;
+         long upPrev = 0;
+         long midPrev = 0;
+         long downPrev = 0;
+         long up = above[a];
+         long mid = row[r];
+         long down = below[b];
+         for (int w = 0; w < words; w++) {
+            long upNext = 0;
+            long midNext = 0;
+            long downNext = 0;
+            if (w + 1 < words) {
+               upNext = above[a + w + 1];
+               midNext = row[r + w + 1];
+               downNext = below[b + w + 1];
+            }
+
+            long found = 0;
+            if (mid != 0) {
+               // Cell c of a west neighbor row is cell c - 1 of the row
+               found = mid & ~crowded(
+                     (up << 1) | (upPrev >>> 63), up, (up >>> 1) | (upNext << 63),
+                     (mid << 1) | (midPrev >>> 63), (mid >>> 1) | (midNext << 63),
+                     (down << 1) | (downPrev >>> 63), down, (down >>> 1) | (downNext << 63));
+               count += Long.bitCount(found);
             }
+            mask[w] = found;
+
+            upPrev = up;
+            midPrev = mid;
+            downPrev = down;
+            up = upNext;
+            mid = midNext;
+            down = downNext;
          }
+
+         return count;
       }
 
-      while (!queue.isEmpty()) {
-         Move pos = queue.poll();
-         inQueue.remove(pos);
+      /**
+       * Add up eight neighbor bitsets with carry save adders.
+       *
+       * @return the bits with at least {@value #CROWDED} neighbors set.
+       */
+      private static long crowded(long n1, long n2, long n3, long n4, long n5, long n6, long n7, long n8) {
+         // Three adders give the ones, and carries worth two each
+         long s1 = n1 ^ n2 ^ n3;
+         long c1 = (n1 & n2) | (n3 & (n1 ^ n2));
+         long s2 = n4 ^ n5 ^ n6;
+         long c2 = (n4 & n5) | (n6 & (n4 ^ n5));
+         long s3 = n7 ^ n8;
+         long c3 = n7 & n8;
+         long c4 = (s1 & s2) | (s3 & (s1 ^ s2));
 
-         int r = pos.r(), c = pos.c();
-         if (map[r][c] == '@' && canMovePaperRoll(map, r, c)) {
-            map[r][c] = '.';
-            count++;
+         // Adding the four twos carries into the fours
+         long twos = c1 ^ c2 ^ c3;
+         long fours = (c1 & c2) | (c3 & (c1 ^ c2));
+         return fours | (twos & c4);
+      }
+
+      /** Sweeps a floor one wave at a time */
+      private static final class Waves {
+         private final Bitboard floor;
+         private final Stripe[] stripes;
+         private final Timer timer;
+         /** Rows changed by the last wave, {@code null} before the first */
+         private boolean[] changed;
+         private boolean[] changing;
+         private int wave;
+
+         Waves(Bitboard floor, String timer) {
+            this.floor = floor;
+            this.timer = MetricsRegistry.global().timer(timer);
+
+            long total = (long) floor.height * floor.words;
+            int count = (int) Math.min(floor.height, Math.min(Runtime.getRuntime().availableProcessors() * 4L,
+                  Math.max(1, total / MIN_STRIPE_WORDS)));
+            long[] zero = new long[Math.max(1, floor.words)];
+            stripes = new Stripe[count];
+            for (int s = 0; s < count; s++) {
+               stripes[s] = new Stripe(floor, (int) ((long) floor.height * s / count),
+                     (int) ((long) floor.height * (s + 1) / count));
+            }
+            for (int s = 0; s < count; s++) {
+               stripes[s].above = s > 0 ? stripes[s - 1].bottom : zero;
+               stripes[s].below = s + 1 < count ? stripes[s + 1].top : zero;
+            }
+         }
+
+         /**
+          * Sweep the floor once.
+          *
+          * @param remove whether to take away the rolls found.
+          * @return the number of rolls that can be moved.
+          */
+         long next(boolean remove) {
+            PuzzleStepEvent event = new PuzzleStepEvent();
+            event.begin();
+            long start = System.nanoTime();
+
+            boolean[] last = changed;
+            if (remove) {
+               changed = changing != null ? changing : new boolean[floor.height];
+               changing = last;
+            }
+
+            Arrays.stream(stripes).parallel().forEach(Stripe::exchangeHalo);
+            boolean[] into = changed;
+            long removed = Arrays.stream(stripes).parallel()
+                  .mapToLong(stripe -> stripe.sweep(remove, last, into))
+                  .sum();
+
+            timer.record(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+               event.day = 4;
+               event.step = "wave";
+               event.index = wave;
+               event.size = (long) floor.height * floor.width;
+               event.result = removed;
+               event.commit();
+            }
+            wave++;
+            return removed;
+         }
+      }
+
+      /** A run of rows swept by one thread */
+      private static final class Stripe {
+         private final Bitboard floor;
+         private final int from;
+         private final int to;
+         /** Copies of the first and last row, taken before each wave */
+         private final long[] top;
+         private final long[] bottom;
+         /** The row above and below the stripe, as they were before the wave */
+         private long[] above;
+         private long[] below;
+         private final long[] mask;
+         /** Rows as they were before being changed in this wave */
+         private final long[][] saved;
+
+         Stripe(Bitboard floor, int from, int to) {
+            this.floor = floor;
+            this.from = from;
+            this.to = to;
+            this.top = new long[floor.words];
+            this.bottom = new long[floor.words];
+            this.mask = new long[floor.words];
+            this.saved = new long[2][floor.words];
+         }
+
+         /** Copy the first and last row aside for the stripes next to this one */
+         void exchangeHalo() {
+            System.arraycopy(floor.bits, from * floor.words, top, 0, floor.words);
+            System.arraycopy(floor.bits, (to - 1) * floor.words, bottom, 0, floor.words);
+         }
+
+         /**
+          * Find the rolls that can be moved in the rows of this
+          * stripe.
+          *
+          * @param remove whether to take the rolls away.
+          * @param changed rows changed by the last wave, rows next
+          *                to none of them are skipped; {@code null}
+          *                to check every row.
+          * @param changing where to mark the rows this wave changes.
+          * @return the number of rolls that can be moved.
+          */
+         long sweep(boolean remove, boolean[] changed, boolean[] changing) {
+            long[] bits = floor.bits;
+            int words = floor.words;
+            if (remove) {
+               Arrays.fill(changing, from, to, false);
+            }
 
-            for (Move move : moves) {
-               int newR = r + move.r();
-               int newC = c + move.c();
-               Move newMove = new Move(newR, newC);
+            long count = 0;
+            long[] up = above;
+            int upOffset = 0;
+            for (int row = from, offset = from * words; row < to; row++, offset += words) {
+               long found = 0;
+               if (changed == null || changed[row]
+                     || (row > 0 && changed[row - 1]) || (row + 1 < floor.height && changed[row + 1])) {
+                  found = row + 1 < to
+                        ? movable(up, upOffset, bits, offset, bits, offset + words, words, mask)
+                        : movable(up, upOffset, bits, offset, below, 0, words, mask);
+               }
+
+               if (found > 0 && remove) {
+                  // The next row still needs to see this one as it was
+                  long[] copy = saved[(row - from) & 1];
+                  System.arraycopy(bits, offset, copy, 0, words);
+                  for (int w = 0; w < words; w++) {
+                     bits[offset + w] &= ~mask[w];
+                  }
+                  changing[row] = true;
+                  up = copy;
+                  upOffset = 0;
+               } else {
+                  up = bits;
+                  upOffset = offset;
+               }
+               count += found;
+            }
+
+            return count;
+         }
+      }
+   }
 
-               if (!inQueue.contains(newMove) && inBounds(map, newR, newC) && map[newR][newC] == '@') {
-                  queue.offer(newMove);
-                  inQueue.add(newMove);
+   /**
+    * A floor that only holds its rolls, for floors far too large to
+    * hold every cell of but with few rolls. Rolls get ids in row
+    * order and are put in a primitive hash index by their packed
+    * coordinates. The index is used once, in parallel, to find the
+    * ids of the neighbors of every roll, so moving rolls later only
+    * walks arrays. The number of rolls next to each roll is kept in
+    * a counter table by id. Memory and time grow with the number of
+    * rolls, not the area.
+    */
+   static final class SparseFloor implements Floor {
+      /** Offsets of the eight neighbors, west and east last */
+      private static final int[] DX = {-1, 0, 1, -1, 0, 1, -1, 1};
+      private static final int[] DY = {-1, -1, -1, 1, 1, 1, 0, 0};
+      private static final int WEST = 6;
+      private static final int EAST = 7;
+
+      /** Number of rolls next to each roll, by id */
+      private final byte[] neighbors;
+      /** Ids of the rolls next to each roll, {@code neighbors[id]} of them from {@code id * 8} */
+      private final int[] adjacent;
+
+      private SparseFloor(LongLongHashMap index, long[] rolls) {
+         this.neighbors = new byte[rolls.length];
+         this.adjacent = new int[rolls.length * DX.length];
+         IntStream.range(0, rolls.length).parallel().forEach(id -> {
+            int count = 0;
+            for (int n = 0; n < DX.length; n++) {
+               long key = PackedPoint.transform(rolls[id], DX[n], DY[n]);
+               // Ids are in row order, so a roll on the same row is next to this one
+               int other;
+               if (n == WEST) {
+                  other = id > 0 && rolls[id - 1] == key ? id - 1 : -1;
+               } else if (n == EAST) {
+                  other = id + 1 < rolls.length && rolls[id + 1] == key ? id + 1 : -1;
+               } else {
+                  other = (int) index.get(key, -1);
+               }
+
+               if (other >= 0) {
+                  adjacent[id * DX.length + count++] = other;
                }
             }
+            neighbors[id] = (byte) count;
+         });
+      }
+
+      /**
+       * Read the rolls straight from the input, skipping blank
+       * lines and never holding an empty cell.
+       *
+       * @param slices the floor map, split into slices.
+       * @param shapes the shape of each slice.
+       * @return the floor.
+       */
+      static SparseFloor from(List<MappedInput> slices, Shape[] shapes) {
+         Shape total = Arrays.stream(shapes).reduce(Shape.EMPTY, Shape::plus);
+         if (total.rolls() > Integer.MAX_VALUE / DX.length) {
+            throw new IllegalArgumentException("Floor with " + total.rolls() + " rolls is too large");
+         }
+
+         // Each slice starts at the row and id after those of the slices before it
+         int[][] first = new int[slices.size()][2];
+         for (int s = 1; s < shapes.length; s++) {
+            first[s][0] = first[s - 1][0] + shapes[s - 1].rows();
+            first[s][1] = first[s - 1][1] + (int) shapes[s - 1].rolls();
          }
+
+         long[] rolls = new long[(int) total.rolls()];
+         IntStream.range(0, slices.size()).parallel().forEach(s -> {
+            int[] next = first[s].clone();
+            slices.get(s).forEachLine(line -> {
+               if (!line.isBlank()) {
+                  int row = next[0]++;
+                  for (int c = line.indexOf(ROLL, 0); c >= 0; c = line.indexOf(ROLL, c + 1)) {
+                     rolls[next[1]++] = PackedPoint.pack(c, row);
+                  }
+               }
+            });
+         });
+
+         LongLongHashMap index = new LongLongHashMap(rolls.length);
+         for (int id = 0; id < rolls.length; id++) {
+            index.put(rolls[id], id);
+         }
+         return new SparseFloor(index, rolls);
       }
 
-      return count;
+      @Override
+      public long accessibleRolls() {
+         return IntStream.range(0, neighbors.length).parallel()
+               .filter(id -> neighbors[id] < CROWDED)
+               .count();
+      }
+
+      @Override
+      public long removableRolls() {
+         // A roll is queued once, when it first has fewer than 4
+         // neighbors, and counts only ever go down from there
+         byte[] counts = neighbors.clone();
+         IntArrayDeque queue = new IntArrayDeque();
+         for (int id = 0; id < counts.length; id++) {
+            if (counts[id] < CROWDED) {
+               queue.addLast(id);
+            }
+         }
+
+         long count = 0;
+         while (!queue.isEmpty()) {
+            int id = queue.pollFirst();
+            count++;
+
+            for (int n = id * DX.length, end = n + neighbors[id]; n < end; n++) {
+               int next = adjacent[n];
+               if (counts[next]-- == CROWDED) {
+                  queue.addLast(next);
+               }
+            }
+         }
+
+         return count;
+      }
    }
 
    /** Solve day fours puzzles */
    public static void main(String[] args) {
+      inputFrom(args);
       new Day04().solvePuzzles();
    }
 }
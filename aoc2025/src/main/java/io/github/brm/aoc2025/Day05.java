@@ -27,102 +27,155 @@
 //========================================================================
 package io.github.brm.aoc2025;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.Iterator;
+import io.github.brm.aoc2025.cmn.ConcurrentIntervalSet;
+import io.github.brm.aoc2025.cmn.IntervalSet;
+import io.github.brm.aoc2025.cmn.MappedInput;
+import io.github.brm.aoc2025.cmn.collections.LongArrayDeque;
+
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import static java.lang.Long.parseLong;
 
 /**
  * Day 5: Cafeteria
  *
+ * <p> The fresh ranges are merged into an {@link IntervalSet}, and
+ * the ingredients are sorted so they can all be checked in one
+ * sweep over the ranges.
+ *
  * @author Copyright 2025 Chesapeake Technology International Corp.
  * @since 12-5-25
  */
-public class Day05 extends AdventOfCodePuzzle {
-
-    private final List<long[]> freshRanges;
-    private final List<Long> ingredients = new ArrayList<>();
-
-    /** Day five */
-    public Day05() {
-        List<long[]> ranges = new ArrayList<>();
-        Iterator<String> iter = readInput().iterator();
-        while (iter.hasNext()) {
-            String line = iter.next();
-            if (line.isBlank()) continue;
-
-            if (line.contains("-")) {
-                String[] split = line.split("-");
-                long start = parseLong(split[0]);
-                long end = parseLong(split[1]);
-                ranges.add(new long[]{start, end});
-            } else {
-                ingredients.add(parseLong(line));
-            }
-        }
-
-        this.freshRanges = combineRanges(ranges);
-    }
+public class Day05 extends AdventOfCodePuzzle<Day05.Inventory> {
+    /** Smallest slice of input worth parsing on its own */
+    private static final long MIN_SLICE_BYTES = 1 << 16;
 
     /**
-     * Combines the provided list of ranges into the smallest set
-     * needed to represent them. It does so by combining ranges
-     * which overlap with one another into a single range.
+     * The cafeteria inventory.
      *
-     * @param ranges the ranges to combine.
-     * @return list of ranges with all overlapping ranges combined.
+     * @param freshRanges combined ranges of fresh ingredient IDs.
+     * @param ingredients the available ingredient IDs, sorted.
      */
-    private List<long[]> combineRanges(List<long[]> ranges) {
-        // Sort by starting value of range, which lets
-        // us do a single iteration over the list
-        ranges.sort(Comparator.comparingLong(a -> a[0]));
-
-        List<long[]> result = new ArrayList<>();
-        result.add(new long[]{ranges.get(0)[0], ranges.get(0)[1]});
-
-        for (int i = 1; i < ranges.size(); i++) {
-            long[] prev = result.get(result.size() - 1);
-            long[] current = ranges.get(i);
-
-            // If the start of the current range is less
-            // than or equal to the end of the last range
-            // we know they overlap with one another
-            if (current[0] <= prev[1]) {
-                prev[1] = Math.max(prev[1], current[1]);
-            } else {
-                result.add(new long[]{current[0], current[1]});
-            }
+    record Inventory(IntervalSet freshRanges, long[] ingredients) { }
+
+    /** The ranges and ingredients in a slice of the input */
+    private static final class Items {
+        private final LongArrayDeque starts = new LongArrayDeque();
+        private final LongArrayDeque ends = new LongArrayDeque();
+        private final LongArrayDeque ingredients = new LongArrayDeque();
+
+        static Items of(MappedInput slice) {
+            Items items = new Items();
+            slice.forEachLine(line -> {
+                if (line.isBlank()) {
+                    return;
+                }
+
+                int dash = line.indexOf((byte) '-', 0);
+                if (dash >= 0) {
+                    items.starts.addLast(line.parseLong(0, dash));
+                    items.ends.addLast(line.parseLong(dash + 1, line.length()));
+                } else {
+                    items.ingredients.addLast(line.parseLong(0, line.length()));
+                }
+            });
+            return items;
         }
+    }
+
+    @Override
+    protected Inventory parseInput() {
+        List<Items> slices = mapInput().parallelSlices(MIN_SLICE_BYTES).parallelStream()
+                .map(Items::of)
+                .toList();
+
+        long[] ingredients = concat(slices, items -> items.ingredients);
+        Arrays.parallelSort(ingredients);
+        return new Inventory(IntervalSet.of(concat(slices, items -> items.starts), concat(slices, items -> items.ends)),
+                ingredients);
+    }
 
-        return result;
+    /** Join one part of each slice, in input order */
+    private static long[] concat(List<Items> slices, Function<Items, LongArrayDeque> part) {
+        long[] joined = new long[slices.stream().mapToInt(items -> part.apply(items).size()).sum()];
+        int offset = 0;
+        for (Items items : slices) {
+            long[] values = part.apply(items).toArray();
+            System.arraycopy(values, 0, joined, offset, values.length);
+            offset += values.length;
+        }
+        return joined;
     }
 
     @Override
     public long solvePartOne() {
-        int freshIngredients = 0;
-        for (Long ingredient : ingredients) {
-            for (long[] freshRange : freshRanges) {
-                if (ingredient >= freshRange[0] && ingredient <= freshRange[1]) {
-                    freshIngredients++;
-                    break;
-                }
+        return input().freshRanges().countSorted(input().ingredients());
+    }
+
+    @Override
+    public long solvePartTwo() {
+        return input().freshRanges().cardinality();
+    }
+
+    /**
+     * Merges each range into the fresh ranges as it arrives, and
+     * checks each ingredient against the ranges seen before it.
+     * Ranges come before ingredients in the input, so both answers
+     * are final once the input is; only the merged ranges are kept.
+     */
+    private static final class Incremental implements IncrementalPuzzle {
+        private final ConcurrentIntervalSet fresh = new ConcurrentIntervalSet();
+        private volatile long freshIngredients;
+
+        @Override
+        public void accept(CharSequence line) {
+            // Parsed in place, like trimming and splitting the line but without the copies
+            int start = 0;
+            int end = line.length();
+            while (start < end && line.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && line.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (start == end) {
+                return;
+            }
+
+            int dash = start;
+            while (dash < end && line.charAt(dash) != '-') {
+                dash++;
+            }
+
+            if (dash < end) {
+                fresh.add(parseLong(line, start, dash, 10), parseLong(line, dash + 1, end, 10));
+            } else if (fresh.contains(parseLong(line, start, end, 10))) {
+                freshIngredients++;
             }
         }
 
-        return freshIngredients;
+        @Override
+        public long partOne() {
+            return freshIngredients;
+        }
+
+        @Override
+        public long partTwo() {
+            return fresh.cardinality();
+        }
     }
 
     @Override
-    public long solvePartTwo() {
-        return freshRanges.stream()
-                .mapToLong(arr -> arr[1] - arr[0] + 1)
-                .sum();
+    public Optional<IncrementalPuzzle> incremental() {
+        return Optional.of(new Incremental());
     }
 
     /** Solve day five */
     public static void main(String[] args) {
+        inputFrom(args);
         new Day05().solvePuzzles();
     }
 }
@@ -18,114 +18,283 @@
  */
 package io.github.brm.aoc2025;
 
+import io.github.brm.aoc2025.cmn.LongKernels;
+import io.github.brm.aoc2025.cmn.MappedInput;
+
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.IntStream;
 
 /**
  * Day 6: Trash Compactor
  *
+ * <p> The worksheet is read column by column straight from the
+ * input bytes. Each line is indexed once by where it starts in the
+ * input, problems are found as the runs of columns between blank
+ * columns, and both the horizontal and vertical numbers of a
+ * problem are built up digit by digit as longs. Problems are
+ * solved in parallel, in blocks of columns that are copied out of
+ * the input in bulk. Part one groups each block's numbers by
+ * operation and reduces them with {@link LongKernels}.
+ *
  * @author benjaminmichael
  * @since 12-6-25
  */
-public class Day06 extends AdventOfCodePuzzle {
-
-    /** Line of numbers from input */
-    private final List<String> numberLines;
-    /** Operations to apply */
-    private final List<Operation> operations;
-
-    /** Day 6 */
-    public Day06() {
-        List<String> numberLines = new ArrayList<>();
-        List<Operation> operations = new ArrayList<>();
-        Iterator<String> iter = readInput().iterator();
-        while (iter.hasNext()) {
-            String line = iter.next().strip();
-            if (!iter.hasNext()) {
-                operations.addAll(Arrays.stream(line.split("\\s+"))
-                        .map(Operation::from)
-                        .toList());
-            } else {
-                numberLines.add(line);
+public class Day06 extends AdventOfCodePuzzle<Day06.Worksheet> {
+    /** Smallest block of columns worth working on alone */
+    private static final int MIN_BLOCK_COLUMNS = 1 << 16;
+    /** Problems gathered at a time for the kernels, small enough to stay in cache */
+    private static final int TILE_PROBLEMS = 1024;
+
+    /**
+     * A line of the worksheet, as a view of the input bytes.
+     *
+     * @param bytes the input the line is in.
+     * @param start offset of the line in the input.
+     * @param length length of the line.
+     */
+    record Row(ByteBuffer bytes, int start, int length) {
+
+        /** Copy columns {@code [from, to)} into the array, spaces past the end of the line */
+        void copy(int from, int to, byte[] into) {
+            int end = Math.max(from, Math.min(to, length));
+            bytes.get(start + from, into, 0, end - from);
+            Arrays.fill(into, end - from, to - from, (byte) ' ');
+        }
+    }
+
+    /**
+     * The math worksheet.
+     *
+     * @param rows lines of numbers from the input, then the line
+     *             of operations.
+     * @param width length of the longest line.
+     * @param firstColumns first column of each problem.
+     * @param lastColumns column after the last of each problem.
+     */
+    record Worksheet(Row[] rows, int width, int[] firstColumns, int[] lastColumns) {
+
+        /**
+         * Columns {@code [from, to)} of every row.
+         *
+         * @return the bytes of each row, in the order of {@link #rows()}.
+         */
+        byte[][] columns(int from, int to) {
+            byte[][] columns = new byte[rows.length][to - from];
+            for (int r = 0; r < rows.length; r++) {
+                rows[r].copy(from, to, columns[r]);
             }
+            return columns;
         }
 
-        this.operations = operations;
-        this.numberLines = numberLines;
-    }
+        /**
+         * Add up the answers to every problem. The problems are
+         * split into blocks solved in parallel, each reading its
+         * columns from one bulk copy.
+         *
+         * @param acrossRows read the numbers across each row, or
+         *                   down each column.
+         * @return the sum of the answers.
+         */
+        long solve(boolean acrossRows) {
+            int problems = firstColumns.length;
+            int blocks = (int) Math.min(problems,
+                    Math.min(Runtime.getRuntime().availableProcessors() * 4L, Math.max(1, width / MIN_BLOCK_COLUMNS)));
+            return IntStream.range(0, blocks).parallel()
+                    .mapToLong(block -> {
+                        int first = (int) ((long) problems * block / blocks);
+                        int last = (int) ((long) problems * (block + 1) / blocks);
+                        int offset = firstColumns[first];
+                        byte[][] columns = columns(offset, lastColumns[last - 1]);
 
-    @Override
-    public long solvePartOne() {
-        // Identities for each problem
-        long[] identities = operations.stream()
-                .mapToLong(Operation::identity)
-                .toArray();
-
-        long[] results = numberLines.stream()
-                .map(line -> line.split("\\s+"))
-                .map(arr -> Arrays.stream(arr).mapToLong(Long::parseLong).toArray())
-                .reduce(
-                        identities,
-                        (acc, nums) -> {
-                            for (int i = 0; i < nums.length; i++) {
-                                acc[i] = operations.get(i).apply(acc[i], nums[i]);
-                            }
-                            return acc;
-                        });
-
-        return Arrays.stream(results).sum();
+                        return acrossRows
+                                ? acrossRows(columns, first, last, offset)
+                                : downColumns(columns, first, last, offset);
+                    })
+                    .sum();
+        }
+
+        /** The symbol of the operation written under the problem in {@code [from, to)} */
+        private static byte operator(byte[][] columns, int from, int to) {
+            byte[] symbols = columns[columns.length - 1];
+            for (int column = from; column < to; column++) {
+                if (symbols[column] > ' ') {
+                    return symbols[column];
+                }
+            }
+            throw new IllegalStateException("No operation under a problem");
+        }
+
+        /**
+         * Answers to a block of problems, reading their numbers
+         * across each row. The numbers are gathered a tile of
+         * problems at a time into one group of rows for the sums
+         * and one for the products, and each group is reduced by a
+         * {@link LongKernels} over whole rows rather than one call
+         * per number. A row with no number under a problem holds
+         * the identity of its operation.
+         *
+         * @param columns the columns of the block.
+         * @param first the first problem of the block.
+         * @param last the problem after the last of the block.
+         * @param offset the column the block starts at.
+         * @return the sum of the answers.
+         */
+        private long acrossRows(byte[][] columns, int first, int last, int offset) {
+            LongKernels kernels = LongKernels.get();
+            int numberRows = columns.length - 1;
+            long[][] sums = new long[numberRows][TILE_PROBLEMS];
+            long[][] products = new long[numberRows][TILE_PROBLEMS];
+
+            long sum = 0;
+            for (int tile = first; tile < last; tile += TILE_PROBLEMS) {
+                int added = 0;
+                int multiplied = 0;
+                for (int problem = tile; problem < Math.min(last, tile + TILE_PROBLEMS); problem++) {
+                    int from = firstColumns[problem] - offset;
+                    int to = lastColumns[problem] - offset;
+                    boolean multiply = operator(columns, from, to) == '*';
+                    long[][] group = multiply ? products : sums;
+                    int index = multiply ? multiplied++ : added++;
+                    for (int r = 0; r < numberRows; r++) {
+                        group[r][index] = number(columns[r], from, to, multiply ? 1 : 0);
+                    }
+                }
+                sum += kernels.sum(sums, added) + kernels.sumOfProducts(products, multiplied);
+            }
+            return sum;
+        }
+
+        /** The number in {@code [from, to)} of the row, or the given value if it has no digits there */
+        private static long number(byte[] row, int from, int to, long missing) {
+            long number = 0;
+            boolean found = false;
+            for (int column = from; column < to; column++) {
+                int digit = row[column] - '0';
+                if (digit >= 0 && digit <= 9) {
+                    number = number * 10 + digit;
+                    found = true;
+                }
+            }
+            return found ? number : missing;
+        }
+
+        /**
+         * Answers to a block of problems, reading their numbers
+         * down each column.
+         *
+         * @param columns the columns of the block.
+         * @param first the first problem of the block.
+         * @param last the problem after the last of the block.
+         * @param offset the column the block starts at.
+         * @return the sum of the answers.
+         */
+        private long downColumns(byte[][] columns, int first, int last, int offset) {
+            long sum = 0;
+            for (int problem = first; problem < last; problem++) {
+                int from = firstColumns[problem] - offset;
+                int to = lastColumns[problem] - offset;
+                Operation operation = Operation.from(operator(columns, from, to));
+                long result = operation.identity();
+                for (int column = from; column < to; column++) {
+                    long number = 0;
+                    boolean found = false;
+                    for (int r = 0; r < columns.length - 1; r++) {
+                        int digit = columns[r][column] - '0';
+                        if (digit >= 0 && digit <= 9) {
+                            number = number * 10 + digit;
+                            found = true;
+                        }
+                    }
+                    if (found) {
+                        result = operation.apply(result, number);
+                    }
+                }
+                sum += result;
+            }
+            return sum;
+        }
     }
 
     @Override
-    public long solvePartTwo() {
-        int opIndex = 0;
-        long runningTotal = 0;
-        Map<Integer, String> map = new HashMap<>();
-        for (int i = 0; i < numberLines.get(0).length(); i++) {
-            boolean added = false;
-            for (String line : numberLines) {
-                char c = line.charAt(i);
-                if (Character.isDigit(c)) {
-                    added = true;
-                    map.put(i, map.getOrDefault(i, "") + c);
+    protected Worksheet parseInput() {
+        List<Row> lines = new ArrayList<>();
+        mapInput().forEachLine(line -> {
+            if (!line.isBlank()) {
+                lines.add(new Row(line.buffer(), line.start(), line.length()));
+            }
+        });
+        if (lines.isEmpty()) {
+            throw new IllegalStateException("Empty worksheet");
+        }
+
+        Row[] rows = lines.toArray(Row[]::new);
+        int width = lines.stream().mapToInt(Row::length).max().orElse(0);
+        Worksheet blank = new Worksheet(rows, width, new int[0], new int[0]);
+
+        // Blocks of columns are checked in parallel, then the runs between blank ones are problems
+        int blocks = Math.max(1, width / MIN_BLOCK_COLUMNS);
+        boolean[] empty = new boolean[width];
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            int from = (int) ((long) width * block / blocks);
+            int to = (int) ((long) width * (block + 1) / blocks);
+            byte[][] columns = blank.columns(from, to);
+            for (int column = from; column < to; column++) {
+                boolean spaces = true;
+                for (byte[] row : columns) {
+                    spaces &= row[column - from] <= ' ';
                 }
+                empty[column] = spaces;
             }
+        });
 
-            if (!added && !map.isEmpty()) {
-                Operation op = operations.get(opIndex++);
-                runningTotal += map.values().stream()
-                        .map(Long::parseLong)
-                        .reduce(op.identity(), op::apply);
-                map.clear();
+        int problems = 0;
+        for (int column = 0; column < width; column++) {
+            if (!empty[column] && (column == 0 || empty[column - 1])) {
+                problems++;
             }
         }
 
-        if (!map.isEmpty()) {
-            Operation op = operations.get(opIndex);
-            runningTotal += map.values().stream()
-                    .map(Long::parseLong)
-                    .reduce(op.identity(), op::apply);
+        int[] firstColumns = new int[problems];
+        int[] lastColumns = new int[problems];
+        int problem = 0;
+        for (int column = 0; column < width; column++) {
+            if (!empty[column] && (column == 0 || empty[column - 1])) {
+                firstColumns[problem] = column;
+            }
+            if (!empty[column] && (column + 1 == width || empty[column + 1])) {
+                lastColumns[problem++] = column + 1;
+            }
         }
 
-        return runningTotal;
+        return new Worksheet(rows, width, firstColumns, lastColumns);
+    }
+
+    @Override
+    public long solvePartOne() {
+        return input().solve(true);
+    }
+
+    @Override
+    public long solvePartTwo() {
+        return input().solve(false);
     }
 
     /** Solve day six */
     public static void main(String[] args) {
+        inputFrom(args);
         new Day06().solvePuzzles();
     }
 
     /** Math operation */
-    private sealed interface Operation {
+    sealed interface Operation {
         long identity();
         long apply(long one, long two);
 
-        static Operation from(String str) {
-            return str.equals("*")
+        static Operation from(byte symbol) {
+            return symbol == '*'
                     ? new Multiply()
                     : new Add();
         }
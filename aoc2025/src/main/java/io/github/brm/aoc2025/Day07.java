@@ -18,151 +18,850 @@
  */
 package io.github.brm.aoc2025;
 
-import io.github.brm.aoc2025.cmn.Point2D;
+import io.github.brm.aoc2025.cmn.Grid;
+import io.github.brm.aoc2025.cmn.MappedInput;
+import io.github.brm.aoc2025.cmn.collections.IntArrayDeque;
+import io.github.brm.aoc2025.cmn.collections.LongArrayDeque;
+import io.github.brm.aoc2025.cmn.collections.PackedPoint;
 
-import java.util.ArrayDeque;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 /**
  * Day 7: Laboratories
  *
+ * <p> The manifold is solved in one of several modes, picked with the
+ * {@value #MODE_PROPERTY} system property:
+ * <ul>
+ *    <li>{@code sweep}, the default, which streams the rows of the
+ *    manifold from top to bottom once, keeping only the beams of
+ *    the current row, and finds both answers in that one pass.</li>
+ *    <li>{@code jump}, which indexes the splitters of each column
+ *    so beams jump from one splitter to the next, for manifolds
+ *    that are mostly empty.</li>
+ *    <li>{@code grid}, a {@link Grid} of the whole manifold with a
+ *    breadth first search for part one and a memoized depth first
+ *    search for part two.</li>
+ * </ul>
+ *
  * @author benjaminmichael
  * @since 12-7-25
  */
-public class Day07 extends AdventOfCodePuzzle {
+public class Day07 extends AdventOfCodePuzzle<Day07.Manifold> {
+
+   /** System property naming the {@link Mode} to solve with */
+   static final String MODE_PROPERTY = "aoc.day07.mode";
+
+   private static final byte START = 'S';
+   private static final byte SPLITTER = '^';
+   /** Smallest slice of input worth reading on its own */
+   private static final long MIN_SLICE_BYTES = 1 << 16;
+   /** Command line flag printing {@link #timelinesByStartColumn()} after the answers */
+   static final String BY_START_FLAG = "--by-start";
+
+   /** Index of the splitters for other start columns, when not solving in jump mode */
+   private volatile SplitterIndex startIndex;
+
+   /** Ways of solving the manifold */
+   enum Mode {
+      GRID, SWEEP, JUMP;
+
+      /** The mode set by {@value #MODE_PROPERTY} */
+      static Mode configured() {
+         return valueOf(System.getProperty(MODE_PROPERTY, SWEEP.name()).toUpperCase(Locale.ROOT));
+      }
+   }
+
+   /** A tachyon manifold */
+   interface Manifold {
 
-   /** Where the beam starts */
-   private final Point2D start;
-   /** The manifold */
-   private final char[][] manifold;
+      /** Number of times the beam is split */
+      long splits();
+
+      /** Number of timelines a single particle ends up on */
+      long timelines();
+   }
 
    /** Setup map and starting point */
-   public Day07() {
-      char[][] manifold = readInput(String::toCharArray).toArray(char[][]::new);
-      int[] start = new int[] {0, 0};
-      for (int i = 0; i < manifold[0].length; i++) {
-         if (manifold[0][i] == 'S') {
-            start[1] = i;
-            break;
-         }
+   @Override
+   protected Manifold parseInput() {
+      Mode mode = Mode.configured();
+      if (mode == Mode.GRID) {
+         return GridManifold.from(Grid.from(mapInput()));
+      }
+      if (mode == Mode.JUMP) {
+         return SplitterIndex.from(mapInput().parallelSlices(MIN_SLICE_BYTES));
       }
 
-      this.manifold = manifold;
-      this.start = new Point2D(start[0], start[1]);
+      Sweep sweep = new Sweep();
+      mapInput().forEachLine(sweep::accept);
+      return sweep;
    }
 
    @Override
    public long solvePartOne() {
-      Queue<Point2D> queue = new ArrayDeque<>();
-      Set<Point2D> inQueue = new HashSet<>();
+      return input().splits();
+   }
+
+   @Override
+   public long solvePartTwo() {
+      return input().timelines();
+   }
+
+   /** Each mode keeps its own stored answers */
+   @Override
+   protected String solverVersion() {
+      return super.solverVersion() + " " + MODE_PROPERTY + "=" + Mode.configured();
+   }
+
+   /**
+    * Timelines for a beam starting from each column of the top row,
+    * as if the {@code S} were there, all found from one index of
+    * the splitters. In jump mode that is the parsed input. The
+    * other modes only follow the beam from the {@code S}, so the
+    * input is read a second time to build the index, once per
+    * puzzle.
+    *
+    * @return the timelines by start column, across the widest row.
+    */
+   public long[] timelinesByStartColumn() {
+      return startIndex().timelinesByStartColumn();
+   }
+
+   private SplitterIndex startIndex() {
+      if (Mode.configured() == Mode.JUMP) {
+         return (SplitterIndex) input();
+      }
 
-      int splits = 0;
-      queue.add(start);
-      while (!queue.isEmpty()) {
-         Point2D pos = queue.poll();
-         inQueue.remove(pos);
+      SplitterIndex index = startIndex;
+      if (index == null) {
+         synchronized (this) {
+            index = startIndex;
+            if (index == null) {
+               index = SplitterIndex.from(mapInput().parallelSlices(MIN_SLICE_BYTES));
+               startIndex = index;
+            }
+         }
+      }
+      return index;
+   }
 
-         // The beam will escape the manifold
-         if (pos.x() + 1 >= manifold.length) continue;
+   /**
+    * The manifold held as a grid.
+    *
+    * @param map the manifold.
+    * @param start cell where the beam starts.
+    */
+   private record GridManifold(Grid map, int start) implements Manifold {
 
-         // No splitter below the beam
-         if (manifold[pos.x() + 1][pos.y()] != '^') {
-            addToQueue(queue, inQueue, pos.transform(1, 0), manifold);
-            continue;
+      static GridManifold from(Grid manifold) {
+         int start = manifold.indexOf(START);
+         if (start < 0 || manifold.row(start) != 0) {
+            start = manifold.cell(0, 0);
          }
 
-         // Now we handle a split
-         int oldQSize = queue.size();
-         addToQueue(queue, inQueue, pos.transform(1, -1), manifold);
-         addToQueue(queue, inQueue, pos.transform(1, 1), manifold);
+         return new GridManifold(manifold, start);
+      }
+
+      @Override
+      public long splits() {
+         Grid manifold = map;
+         int below = manifold.stride();
+
+         IntArrayDeque queue = new IntArrayDeque();
+         boolean[] inQueue = new boolean[manifold.size()];
+
+         int splits = 0;
+         queue.addLast(start);
+         while (!queue.isEmpty()) {
+            int pos = queue.pollFirst();
+            inQueue[pos] = false;
+
+            // The beam will escape the manifold
+            if (manifold.row(pos) + 1 >= manifold.height()) continue;
+
+            // No splitter below the beam
+            if (manifold.get(pos + below) != SPLITTER) {
+               addToQueue(queue, inQueue, pos + below, manifold);
+               continue;
+            }
+
+            // Now we handle a split
+            int oldQSize = queue.size();
+            addToQueue(queue, inQueue, pos + below - 1, manifold);
+            addToQueue(queue, inQueue, pos + below + 1, manifold);
+
+            // Check if we split
+            if (queue.size() != oldQSize) {
+               splits++;
+            }
+         }
+
+         return splits;
+      }
 
-         // Check if we split
-         if (queue.size() != oldQSize) {
-            splits++;
+      /**
+       * Adds to queue if the given cell is:
+       * <pre>
+       * 1. Not out of bounds of the manifold
+       * 2. Not already in the queue
+       * 3. Is not a splitter point
+       * </pre>
+       * */
+      private static void addToQueue(IntArrayDeque q, boolean[] inQ, int pos, Grid manifold) {
+         byte value = manifold.get(pos);
+         if (value == Grid.BORDER || inQ[pos] || value == SPLITTER) {
+            return;
          }
+
+         q.addLast(pos);
+         inQ[pos] = true;
+      }
+
+      @Override
+      public long timelines() {
+         // DFS with a cache to avoid duplicate work
+         long[] cache = new long[map.size()];
+         Arrays.fill(cache, -1);
+         return timelines(start, map, cache);
       }
 
-      return splits;
+      /**
+       * DFS search of the manifold to find all timelines
+       *
+       * @param cell the current cell to search
+       * @param manifold the manifold
+       * @param cache timelines from each cell visited, {@code -1}
+       *              for cells not visited yet
+       * @return number of timelines from the given cell that
+       * exit the manifold
+       */
+      private static long timelines(int cell, Grid manifold, long[] cache) {
+         // Check the cache first
+         if (cache[cell] >= 0) {
+            return cache[cell];
+         }
+
+         long timelines;
+         if (manifold.get(cell) == Grid.BORDER) {
+            // Out of bounds on the left or right of the manifold
+            timelines = 0;
+         } else if (manifold.row(cell) + 1 >= manifold.height()) {
+            // Exited the manifold
+            timelines = 1;
+         } else if (manifold.get(cell + manifold.stride()) != SPLITTER) {
+            // No splitter in the way, continue down
+            timelines = timelines(cell + manifold.stride(), manifold, cache);
+         } else {
+            long left = timelines(cell + manifold.stride() - 1, manifold, cache);
+            long right = timelines(cell + manifold.stride() + 1, manifold, cache);
+            timelines = left + right;
+         }
+
+         cache[cell] = timelines;
+         return timelines;
+      }
    }
 
    /**
-    * Adds to queue if the given point is:
-    * <pre>
-    * 1. Not out of bounds of the manifold
-    * 2. Not already in the queue
-    * 3. Is not a splitter point
-    * </pre>
-    * */
-   private void addToQueue(Queue<Point2D> q, Set<Point2D> inQ, Point2D pos, char[][] manifold) {
-      // Bounds checking
-      if (pos.x() < 0
-              || pos.x() >= manifold.length
-              || pos.y() < 0
-              || pos.y() >= manifold[pos.x()].length
-              || inQ.contains(pos)
-              || manifold[pos.x()][pos.y()] == '^'
-      ) {
-         return;
-      }
-
-      q.add(pos);
-      inQ.add(pos);
+    * Sweeps the manifold from top to bottom one row at a time. Only
+    * the current row is kept: a bitset of the columns with a beam,
+    * for part one, and the number of timelines reaching each column,
+    * for part two. Both answers come out of the same pass, the work
+    * for a row is by the beams in it rather than its width, and no
+    * earlier row is held, so manifolds of any height can be streamed
+    * through.
+    *
+    * <p> Beams in a row are moved in column order, which makes the
+    * splits counted the same as the breadth first search of
+    * {@code grid} mode: a splitter only counts if it adds a beam
+    * that is not in the next row yet. Past the end of a row that is
+    * shorter than the others is outside the manifold.
+    */
+   static final class Sweep implements Manifold {
+      /** Columns with a beam */
+      private long[] beams = new long[1];
+      private long[] nextBeams = new long[1];
+      /** Columns any timeline reaches, every beam is one of them */
+      private long[] reached = new long[1];
+      private long[] nextReached = new long[1];
+      /** Timelines reaching each column */
+      private long[] timelines = new long[Long.SIZE];
+      private long[] nextTimelines = new long[Long.SIZE];
+
+      /** First and last words of {@link #reached} with a bit set */
+      private int firstWord = 0;
+      private int lastWord = -1;
+      private int nextFirstWord;
+      private int nextLastWord;
+
+      private boolean started = false;
+      private long splits = 0;
+
+      /** Take the next row of the manifold, blank rows are skipped */
+      void accept(CharSequence row) {
+         if (isBlank(row)) {
+            return;
+         }
+
+         int length = row.length();
+         ensureCapacity(length);
+         if (!started) {
+            start(row);
+            return;
+         }
+
+         nextFirstWord = Integer.MAX_VALUE;
+         nextLastWord = -1;
+         for (int w = firstWord; w <= lastWord; w++) {
+            for (long word = reached[w]; word != 0; word &= word - 1) {
+               int column = (w << 6) + Long.numberOfTrailingZeros(word);
+               long count = timelines[column];
+               boolean beam = (beams[w] & (1L << column)) != 0;
+               timelines[column] = 0;
+
+               // Off the end of the row below is outside the manifold
+               if (column >= length) {
+                  continue;
+               }
+
+               if (row.charAt(column) != SPLITTER) {
+                  reach(column, count);
+                  if (beam) {
+                     nextBeams[w] |= 1L << column;
+                  }
+                  continue;
+               }
+
+               boolean split = false;
+               for (int side = column - 1; side <= column + 1; side += 2) {
+                  if (side < 0 || side >= length) {
+                     continue;
+                  }
+
+                  // Timelines may land on a splitter, beams may not
+                  reach(side, count);
+                  long bit = 1L << side;
+                  if (beam && row.charAt(side) != SPLITTER && (nextBeams[side >> 6] & bit) == 0) {
+                     nextBeams[side >> 6] |= bit;
+                     split = true;
+                  }
+               }
+               if (split) {
+                  splits++;
+               }
+            }
+            reached[w] = 0;
+            beams[w] = 0;
+         }
+
+         long[] swap = beams;
+         beams = nextBeams;
+         nextBeams = swap;
+         swap = reached;
+         reached = nextReached;
+         nextReached = swap;
+         swap = timelines;
+         timelines = nextTimelines;
+         nextTimelines = swap;
+         firstWord = nextFirstWord;
+         lastWord = nextLastWord;
+      }
+
+      /** Start the beam in the first row, at the {@code S} or else the first column */
+      private void start(CharSequence row) {
+         int column = 0;
+         for (int c = 0; c < row.length(); c++) {
+            if (row.charAt(c) == START) {
+               column = c;
+               break;
+            }
+         }
+
+         beams[column >> 6] |= 1L << column;
+         reached[column >> 6] |= 1L << column;
+         timelines[column] = 1;
+         firstWord = column >> 6;
+         lastWord = column >> 6;
+         started = true;
+      }
+
+      /** Add timelines reaching the column in the next row */
+      private void reach(int column, long count) {
+         int w = column >> 6;
+         nextReached[w] |= 1L << column;
+         nextTimelines[column] += count;
+         nextFirstWord = Math.min(nextFirstWord, w);
+         nextLastWord = Math.max(nextLastWord, w);
+      }
+
+      /** Grow the rows to hold the given number of columns */
+      private void ensureCapacity(int columns) {
+         if (columns <= timelines.length) {
+            return;
+         }
+
+         int capacity = Math.max(columns, timelines.length * 2);
+         int words = (capacity + Long.SIZE - 1) / Long.SIZE;
+         timelines = Arrays.copyOf(timelines, capacity);
+         nextTimelines = Arrays.copyOf(nextTimelines, capacity);
+         beams = Arrays.copyOf(beams, words);
+         nextBeams = Arrays.copyOf(nextBeams, words);
+         reached = Arrays.copyOf(reached, words);
+         nextReached = Arrays.copyOf(nextReached, words);
+      }
+
+      private static boolean isBlank(CharSequence row) {
+         for (int i = 0; i < row.length(); i++) {
+            if (row.charAt(i) > ' ') {
+               return false;
+            }
+         }
+         return true;
+      }
+
+      @Override
+      public long splits() {
+         return splits;
+      }
+
+      /** The timelines that leave the manifold, taking the rows so far as the whole of it */
+      @Override
+      public long timelines() {
+         long total = 0;
+         for (int w = firstWord; w <= lastWord; w++) {
+            for (long word = reached[w]; word != 0; word &= word - 1) {
+               total += timelines[(w << 6) + Long.numberOfTrailingZeros(word)];
+            }
+         }
+         return total;
+      }
    }
 
-   @Override
-   public long solvePartTwo() {
-      // DFS with a cache to avoid duplicate work
-      return solvePartTwo2(start, manifold, new HashMap<>());
+   /**
+    * The manifold held as an index of its splitters, so a beam jumps
+    * straight to the next splitter below it instead of moving down
+    * one row at a time. The splitters are kept as packed points
+    * sorted by column then row, which makes the splitters of each
+    * column a run of rows in order. Work and memory are by the
+    * number of splitters, not the size of the manifold.
+    *
+    * <p> The timelines from every splitter are found once, from the
+    * bottom up, so the timelines from any start column come from a
+    * single lookup; see {@link #timelinesByStartColumn()}.
+    */
+   static final class SplitterIndex implements Manifold {
+      private final Rows rows;
+      /** Column the beam starts in */
+      private final int start;
+      /** Splitters as packed points, sorted by column then row */
+      private final long[] splitters;
+      /** Timelines from a beam hitting each splitter */
+      private final long[] timelines;
+
+      private SplitterIndex(Rows rows, int start, long[] byRow) {
+         this.rows = rows;
+         this.start = start;
+         this.splitters = byRow.clone();
+         Arrays.parallelSort(splitters);
+
+         // Everything below a splitter is known before it is reached
+         timelines = new long[splitters.length];
+         for (int i = byRow.length - 1; i >= 0; i--) {
+            int id = Arrays.binarySearch(splitters, byRow[i]);
+            int row = PackedPoint.y(byRow[i]);
+            int column = PackedPoint.x(byRow[i]);
+            int length = rows.length(row);
+            for (int side = column - 1; side <= column + 1; side += 2) {
+               if (side >= 0 && side < length) {
+                  timelines[id] += timelinesBelow(row, side);
+               }
+            }
+         }
+      }
+
+      /**
+       * Index the splitters of the manifold, reading the slices in
+       * parallel.
+       *
+       * @param slices the manifold, split into slices.
+       * @return the index.
+       */
+      static SplitterIndex from(List<MappedInput> slices) {
+         Slice[] parts = slices.parallelStream().map(Slice::of).toArray(Slice[]::new);
+
+         // Each slice starts at the row and splitter after those of the slices before it
+         int[][] first = new int[parts.length + 1][2];
+         for (int s = 0; s < parts.length; s++) {
+            first[s + 1][0] = Math.addExact(first[s][0], parts[s].rows());
+            first[s + 1][1] = Math.addExact(first[s][1], parts[s].splitters().length);
+         }
+
+         long[] byRow = new long[first[parts.length][1]];
+         IntStream.range(0, parts.length).parallel().forEach(s -> {
+            long[] splitters = parts[s].splitters();
+            for (int i = 0; i < splitters.length; i++) {
+               byRow[first[s][1] + i] = PackedPoint.transform(splitters[i], 0, first[s][0]);
+            }
+         });
+
+         IntArrayDeque runs = new IntArrayDeque();
+         int length = -1;
+         int start = -1;
+         for (int s = 0; s < parts.length; s++) {
+            int[] slice = parts[s].runs();
+            for (int i = 0; i < slice.length; i += 2) {
+               if (slice[i + 1] != length) {
+                  length = slice[i + 1];
+                  runs.addLast(first[s][0] + slice[i]);
+                  runs.addLast(length);
+               }
+            }
+            if (start < 0 && parts[s].rows() > 0) {
+               start = parts[s].start();
+            }
+         }
+
+         return new SplitterIndex(Rows.of(runs.toArray(), first[parts.length][0]), Math.max(start, 0), byRow);
+      }
+
+      /** The splitter at the cell, or {@code -1} if there is none */
+      private int splitter(int row, int column) {
+         int id = Arrays.binarySearch(splitters, PackedPoint.pack(column, row));
+         return Math.max(id, -1);
+      }
+
+      /** The first splitter in the column below the row, or {@code -1} if there is none */
+      private int splitterBelow(int row, int column) {
+         int id = upperBound(splitters, PackedPoint.pack(column, row));
+         return id < splitters.length && PackedPoint.x(splitters[id]) == column ? id : -1;
+      }
+
+      /** Row of the last splitter in the column at or above the row, or {@code -1} if there is none */
+      private int splitterAbove(int row, int column) {
+         int id = upperBound(splitters, PackedPoint.pack(column, row)) - 1;
+         return id >= 0 && PackedPoint.x(splitters[id]) == column ? PackedPoint.y(splitters[id]) : -1;
+      }
+
+      /**
+       * The splitter a beam moving down from the cell hits.
+       *
+       * @return the splitter, or {@code -1} if the beam leaves the
+       *         manifold, either out of the bottom or off the end of
+       *         a shorter row.
+       */
+      private int hit(int row, int column) {
+         int id = splitterBelow(row, column);
+         return id >= 0 && PackedPoint.y(splitters[id]) < rows.wallBelow(row, column) ? id : -1;
+      }
+
+      /** Timelines from a beam moving down from the cell */
+      private long timelinesBelow(int row, int column) {
+         int id = hit(row, column);
+         if (id >= 0) {
+            return timelines[id];
+         }
+         return rows.wallBelow(row, column) == Integer.MAX_VALUE ? 1 : 0;
+      }
+
+      /**
+       * Counts the splitters hit by following the beams from
+       * splitter to splitter. As in {@code grid} mode, a splitter
+       * only counts if it adds a beam that is not in the row yet,
+       * taking the beams of the row above in column order.
+       */
+      @Override
+      public long splits() {
+         if (rows.height() == 0) {
+            return 0;
+         }
+
+         boolean[] hit = new boolean[splitters.length];
+         LongArrayDeque beams = new LongArrayDeque();
+         LongArrayDeque origins = new LongArrayDeque();
+         beams.addLast(PackedPoint.pack(start, 0));
+         origins.addLast(PackedPoint.pack(start, 0));
+         while (!beams.isEmpty()) {
+            long beam = beams.pollLast();
+            int id = hit(PackedPoint.y(beam), PackedPoint.x(beam));
+            if (id < 0 || hit[id]) {
+               continue;
+            }
+
+            hit[id] = true;
+            int row = PackedPoint.y(splitters[id]);
+            int column = PackedPoint.x(splitters[id]);
+            for (int side = column - 1; side <= column + 1; side += 2) {
+               if (opensBeam(row, side)) {
+                  beams.addLast(PackedPoint.pack(side, row));
+                  origins.addLast(PackedPoint.pack(side, row));
+               }
+            }
+         }
+
+         long[] started = origins.toArray();
+         Arrays.sort(started);
+
+         long splits = 0;
+         for (int id = 0; id < splitters.length; id++) {
+            if (!hit[id]) {
+               continue;
+            }
+
+            int row = PackedPoint.y(splitters[id]);
+            int column = PackedPoint.x(splitters[id]);
+            if (opensBeam(row, column + 1)) {
+               splits++;
+            } else if (opensBeam(row, column - 1)) {
+               // The left beam is only new if nothing to the left put it there first
+               int left = splitter(row, column - 2);
+               boolean split = !(left >= 0 && hit[left]) && !lit(started, row - 1, column - 1);
+               splits += split ? 1 : 0;
+            }
+         }
+         return splits;
+      }
+
+      /** Check if a split can put a beam in the cell, it must be inside the manifold and not a splitter */
+      private boolean opensBeam(int row, int column) {
+         return column >= 0 && column < rows.length(row) && splitter(row, column) < 0;
+      }
+
+      /** Check if a beam passes through the cell, given where every beam starts */
+      private boolean lit(long[] started, int row, int column) {
+         // A beam that starts below the last thing to stop one in the column
+         int stop = Math.max(splitterAbove(row, column), rows.wallAbove(row, column));
+         int last = upperBound(started, PackedPoint.pack(column, row)) - 1;
+         return last >= 0 && PackedPoint.x(started[last]) == column && PackedPoint.y(started[last]) > stop;
+      }
+
+      @Override
+      public long timelines() {
+         return rows.height() == 0 ? 0 : timelinesBelow(0, start);
+      }
+
+      /**
+       * Timelines for a beam starting from each column of the top
+       * row, as if the {@code S} were there.
+       *
+       * @return the timelines by start column, across the widest row.
+       */
+      long[] timelinesByStartColumn() {
+         int length = rows.height() == 0 ? 0 : rows.length(0);
+         return IntStream.range(0, rows.width()).parallel()
+               .mapToLong(column -> column < length ? timelinesBelow(0, column) : 0)
+               .toArray();
+      }
+
+      /** Index of the first value greater than the key */
+      private static int upperBound(long[] sorted, long key) {
+         int low = 0;
+         int high = sorted.length;
+         while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+               low = mid + 1;
+            } else {
+               high = mid;
+            }
+         }
+         return low;
+      }
    }
 
    /**
-    * DFS search of the manifold to find all timelines
+    * What one slice of the input adds to a {@link SplitterIndex},
+    * with rows numbered from the start of the slice.
     *
-    * @param point the current point to search
-    * @param manifold the manifold
-    * @param cache the cache of points visited
-    * @return number of timelines from the given point that
-    * exit the manifold
+    * @param rows number of rows, blank lines are not rows.
+    * @param splitters splitters as packed points, by row.
+    * @param runs pairs of the first row of a run of rows of the
+    *             same length, and that length.
+    * @param start column of the {@code S} in the first row, or
+    *              {@code 0} if it has none.
     */
-   public long solvePartTwo2(Point2D point, char[][] manifold, Map<Point2D, Long> cache) {
-      // Check the cache first
-      if (cache.containsKey(point)) {
-         return cache.get(point);
+   private record Slice(int rows, long[] splitters, int[] runs, int start) {
+
+      static Slice of(MappedInput slice) {
+         // Rows read, the start column, and the length of the last row
+         int[] rows = {0, 0, -1};
+         LongArrayDeque splitters = new LongArrayDeque();
+         IntArrayDeque runs = new IntArrayDeque();
+         slice.forEachLine(line -> {
+            if (line.isBlank()) {
+               return;
+            }
+
+            int row = rows[0]++;
+            if (row == 0) {
+               rows[1] = Math.max(line.indexOf(START, 0), 0);
+            }
+            if (line.length() != rows[2]) {
+               rows[2] = line.length();
+               runs.addLast(row);
+               runs.addLast(line.length());
+            }
+            for (int c = line.indexOf(SPLITTER, 0); c >= 0; c = line.indexOf(SPLITTER, c + 1)) {
+               splitters.addLast(PackedPoint.pack(c, row));
+            }
+         });
+         return new Slice(rows[0], splitters.toArray(), runs.toArray(), rows[1]);
+      }
+   }
+
+   /**
+    * The lengths of the rows of a manifold, as runs of rows of the
+    * same length, so a rectangular manifold is a single run. Past
+    * the end of a row shorter than the widest is outside the
+    * manifold, a wall for beams in those columns. A tree of the
+    * shortest length over ranges of runs finds the nearest wall in
+    * a column without looking at every run.
+    */
+   private static final class Rows {
+      private final int height;
+      private final int width;
+      /** First row of each run */
+      private final int[] starts;
+      /** Length of the rows of each run */
+      private final int[] lengths;
+      /** Shortest length under each node, leaves from {@link #leaves} on */
+      private final int[] shortest;
+      private final int leaves;
+
+      private Rows(int[] starts, int[] lengths, int height) {
+         this.starts = starts;
+         this.lengths = lengths;
+         this.height = height;
+         this.width = Arrays.stream(lengths).max().orElse(0);
+
+         leaves = Integer.highestOneBit(Math.max(1, lengths.length) * 2 - 1);
+         shortest = new int[leaves * 2];
+         Arrays.fill(shortest, Integer.MAX_VALUE);
+         System.arraycopy(lengths, 0, shortest, leaves, lengths.length);
+         for (int node = leaves - 1; node > 0; node--) {
+            shortest[node] = Math.min(shortest[2 * node], shortest[2 * node + 1]);
+         }
       }
 
-      // Out of bounds on the left or right of the manifold
-      if (point.y() < 0 || point.y() >= manifold[point.x()].length) {
-         cache.putIfAbsent(point, 0L);
-         return 0;
+      /** Rows from pairs of the first row of a run and its length */
+      static Rows of(int[] runs, int height) {
+         int[] starts = new int[runs.length / 2];
+         int[] lengths = new int[runs.length / 2];
+         for (int i = 0; i < starts.length; i++) {
+            starts[i] = runs[2 * i];
+            lengths[i] = runs[2 * i + 1];
+         }
+         return new Rows(starts, lengths, height);
       }
 
-      // Exited the manifold
-      if (point.x() + 1 >= manifold.length) {
-         cache.put(point, 1L);
-         return 1;
+      int height() {
+         return height;
       }
 
-      // No splitter in the way, continue down
-      if (manifold[point.x() + 1][point.y()] != '^') {
-         Point2D newPoint = point.transform(1, 0);
-         long timelines = solvePartTwo2(newPoint, manifold, cache);
-         cache.putIfAbsent(newPoint, timelines);
-         return timelines;
+      int width() {
+         return width;
       }
 
-      long left = solvePartTwo2(point.transform(1, -1), manifold, cache);
-      long right = solvePartTwo2(point.transform(1, 1), manifold, cache);
-      long timelines = left + right;
-      cache.putIfAbsent(point, timelines);
-      return timelines;
+      int length(int row) {
+         return lengths[run(row)];
+      }
+
+      /** The first row below the given one that the column is past the end of, or {@link Integer#MAX_VALUE} */
+      int wallBelow(int row, int column) {
+         if (row + 1 >= height || column < shortest[1]) {
+            return Integer.MAX_VALUE;
+         }
+         int run = first(1, 0, leaves, run(row + 1), column);
+         return run < 0 ? Integer.MAX_VALUE : Math.max(starts[run], row + 1);
+      }
+
+      /** The last row at or above the given one that the column is past the end of, or {@code -1} */
+      int wallAbove(int row, int column) {
+         if (column < shortest[1]) {
+            return -1;
+         }
+         int run = last(1, 0, leaves, run(row), column);
+         return run < 0 ? -1 : Math.min(run + 1 < starts.length ? starts[run + 1] - 1 : height - 1, row);
+      }
+
+      /** Run the row is in */
+      private int run(int row) {
+         int run = Arrays.binarySearch(starts, row);
+         return run >= 0 ? run : -run - 2;
+      }
+
+      /** The first run from {@code from} on, under the node covering {@code [low, high)}, too short for the column */
+      private int first(int node, int low, int high, int from, int column) {
+         if (high <= from || shortest[node] > column) {
+            return -1;
+         }
+         if (high - low == 1) {
+            return low;
+         }
+         int mid = (low + high) >>> 1;
+         int run = first(2 * node, low, mid, from, column);
+         return run >= 0 ? run : first(2 * node + 1, mid, high, from, column);
+      }
+
+      /** The last run up to {@code to}, under the node covering {@code [low, high)}, too short for the column */
+      private int last(int node, int low, int high, int to, int column) {
+         if (low > to || shortest[node] > column) {
+            return -1;
+         }
+         if (high - low == 1) {
+            return low;
+         }
+         int mid = (low + high) >>> 1;
+         int run = last(2 * node + 1, mid, high, to, column);
+         return run >= 0 ? run : last(2 * node, low, mid, to, column);
+      }
+   }
+
+   /** Sweeps the manifold as its rows arrive */
+   private static final class Incremental implements IncrementalPuzzle {
+      private final Sweep sweep = new Sweep();
+
+      @Override
+      public synchronized void accept(CharSequence row) {
+         sweep.accept(row);
+      }
+
+      @Override
+      public synchronized long partOne() {
+         return sweep.splits();
+      }
+
+      @Override
+      public synchronized long partTwo() {
+         return sweep.timelines();
+      }
+   }
+
+   @Override
+   public Optional<IncrementalPuzzle> incremental() {
+      return Optional.of(new Incremental());
    }
 
-   /** Solve day 7 */
+   /**
+    * Solve day 7. With {@value #BY_START_FLAG} the timelines from
+    * every start column are printed too.
+    */
    public static void main(String[] args) {
-      new Day07().solvePuzzles();
+      List<String> arguments = new ArrayList<>(List.of(args));
+      boolean byStart = arguments.remove(BY_START_FLAG);
+      inputFrom(arguments.toArray(String[]::new));
+
+      Day07 puzzle = new Day07();
+      puzzle.solvePuzzles();
+      if (byStart) {
+         long[] timelines = puzzle.timelinesByStartColumn();
+         for (int column = 0; column < timelines.length; column++) {
+            System.out.printf("Timelines from column %d = %d%n", column, timelines[column]);
+         }
+      }
    }
 }
@@ -27,6 +27,11 @@
 //========================================================================
 package io.github.brm.aoc2025;
 
+import io.github.brm.aoc2025.cmn.MetricsRegistry;
+import io.github.brm.aoc2025.cmn.PuzzleStepEvent;
+import io.github.brm.aoc2025.cmn.Timer;
+import io.github.brm.aoc2025.cmn.collections.IntIntHashMap;
+
 import java.util.*;
 
 import static java.lang.Integer.parseInt;
@@ -37,22 +42,32 @@ import static java.lang.Integer.parseInt;
  * @author Copyright 2025 Chesapeake Technology International Corp.
  * @since 12-9-25
  */
-public class Day08 extends AdventOfCodePuzzle {
-
-    private final List<JunctionBox> junctionBoxes;
-    private final List<Connection> pairs;
+public class Day08 extends AdventOfCodePuzzle<Day08.Playground> {
 
     /** Max connections to make for part one */
     private static final int P1_MAX = 1000;
+    /** Connections tried per flight recorder union batch event */
+    private static final int UNION_BATCH = 1000;
+    /** Time of each batch of unions, single unions are too quick to time on their own */
+    private static final Timer UNION_TIMER = MetricsRegistry.global().timer("Day08.unionBatch");
+
+    /**
+     * The junction boxes in the playground.
+     *
+     * @param junctionBoxes the junction boxes.
+     * @param pairs all pairs of boxes sorted by distance.
+     */
+    record Playground(List<JunctionBox> junctionBoxes, List<Connection> pairs) { }
 
-    public Day08() {
-        this.junctionBoxes = readInput(",")
+    @Override
+    protected Playground parseInput() {
+        List<JunctionBox> junctionBoxes = readInput(",")
                 .map(JunctionBox::fromLine)
                 .toList();
 
         // Precompute all pair distances and sort
         int n = junctionBoxes.size();
-        this.pairs = new ArrayList<>(n * n);
+        List<Connection> pairs = new ArrayList<>(n * n);
 
         for (int i = 0; i < n; i++) {
             JunctionBox a = junctionBoxes.get(i);
@@ -64,50 +79,82 @@ public class Day08 extends AdventOfCodePuzzle {
         }
 
         Collections.sort(pairs);
+        return new Playground(junctionBoxes, pairs);
     }
 
     @Override
     public long solvePartOne() {
-        int n = junctionBoxes.size();
+        List<Connection> pairs = input().pairs();
+        int n = input().junctionBoxes().size();
         DisjointSetUnion dsu = new DisjointSetUnion(n);
 
-        for (int i = 0; i < Math.min(P1_MAX, pairs.size()); i++) {
+        PuzzleStepEvent batch = new PuzzleStepEvent();
+        batch.begin();
+        long batchNanos = System.nanoTime();
+        int limit = Math.min(P1_MAX, pairs.size());
+        int merged = 0;
+        for (int i = 0; i < limit; i++) {
             Connection p = pairs.get(i);
-            dsu.union(p.i(), p.j());
+            if (dsu.union(p.i(), p.j())) {
+                merged++;
+            }
         }
+        commitBatch(batch, batchNanos, 0, limit, merged);
 
-        Map<Integer, Integer> circuitSizes = new HashMap<>();
+        IntIntHashMap circuitSizes = new IntIntHashMap(n);
         for (int i = 0; i < n; i++) {
             int root = dsu.find(i);
             circuitSizes.put(root, dsu.size(root));
         }
 
-        return circuitSizes.values().stream()
-                .sorted(Comparator.reverseOrder())
-                .limit(3)
-                .mapToLong(i -> i)
-                .reduce(1, (a, b) -> a * b);
+        int[] sizes = circuitSizes.values();
+        Arrays.sort(sizes);
+        long product = 1;
+        for (int i = sizes.length - 1; i >= Math.max(0, sizes.length - 3); i--) {
+            product *= sizes[i];
+        }
+        return product;
     }
 
     @Override
     public long solvePartTwo() {
+        List<JunctionBox> junctionBoxes = input().junctionBoxes();
+        List<Connection> pairs = input().pairs();
         int n = junctionBoxes.size();
         DisjointSetUnion dsu = new DisjointSetUnion(n);
 
         Connection last = null;
-        for (int idx = P1_MAX; idx < pairs.size(); idx++) {
+        PuzzleStepEvent batch = new PuzzleStepEvent();
+        batch.begin();
+        long batchNanos = System.nanoTime();
+        int batchStart = P1_MAX;
+        int merged = 0;
+        int idx = P1_MAX;
+        for (; idx < pairs.size(); idx++) {
             Connection p = pairs.get(idx);
 
             // Check if they are not already connected
             if (dsu.union(p.i(), p.j())) {
                 last = p;
+                merged++;
 
                 // Check if all nodes connected
                 if (dsu.size(0) == n) {
+                    idx++;
                     break;
                 }
             }
+
+            if (idx + 1 - batchStart == UNION_BATCH) {
+                commitBatch(batch, batchNanos, batchStart, UNION_BATCH, merged);
+                batch = new PuzzleStepEvent();
+                batch.begin();
+                batchNanos = System.nanoTime();
+                batchStart = idx + 1;
+                merged = 0;
+            }
         }
+        commitBatch(batch, batchNanos, batchStart, idx - batchStart, merged);
 
         // Something went wrong if this fails...
         assert last != null;
@@ -117,8 +164,32 @@ public class Day08 extends AdventOfCodePuzzle {
         return (long) a.x * b.x;
     }
 
+    /**
+     * Record the time of a batch of unions, and commit a flight
+     * recorder event for it if the event is being recorded.
+     *
+     * @param event the batch event.
+     * @param startNanos {@link System#nanoTime()} when the batch started.
+     * @param first index of the first connection in the batch.
+     * @param size number of connections tried.
+     * @param merged number of connections that merged two circuits.
+     */
+    private static void commitBatch(PuzzleStepEvent event, long startNanos, long first, long size, long merged) {
+        UNION_TIMER.record(System.nanoTime() - startNanos);
+        event.end();
+        if (event.shouldCommit()) {
+            event.day = 8;
+            event.step = "union batch";
+            event.index = first;
+            event.size = size;
+            event.result = merged;
+            event.commit();
+        }
+    }
+
     /** Solve day 8 */
     public static void main(String[] args) {
+        inputFrom(args);
         new Day08().solvePuzzles();
     }
 
@@ -155,9 +226,9 @@ public class Day08 extends AdventOfCodePuzzle {
      * A hypothetical connection between two junction boxes.
      *
      * @param i the index of the first junction box in the
-     *          {@link #junctionBoxes} list.
+     *          {@link Playground#junctionBoxes} list.
      * @param j the index of the second junction box in
-     *          the {@link #junctionBoxes} list.
+     *          the {@link Playground#junctionBoxes} list.
      * @param distance distance between the two boxes.
      */
     private record Connection(int i, int j, double distance) implements Comparable<Connection> {
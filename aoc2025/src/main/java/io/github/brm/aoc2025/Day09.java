@@ -34,20 +34,27 @@ import static java.lang.Integer.parseInt;
  * @author benjaminmichael
  * @since 12-11-25
  */
-public class Day09 extends AdventOfCodePuzzle {
+public class Day09 extends AdventOfCodePuzzle<Day09.Theater> {
 
-    /** Bounding box formed by all points */
-    private final Polygon bounds = new Polygon();
-    /** Areas of each square */
-    private final TreeSet<Rectangle> rects = new TreeSet<>(Comparator.comparingLong(Day09::area)
-            .reversed()
-            .thenComparingInt(r -> r.x)
-            .thenComparingInt(r -> r.y)
-            .thenComparingInt(r -> r.width)
-            .thenComparingInt(r -> r.height));
+    /**
+     * The red tiles of the theater floor.
+     *
+     * @param bounds bounding box formed by all points.
+     * @param rects rectangles between each pair of tiles, largest first.
+     */
+    record Theater(Polygon bounds, TreeSet<Rectangle> rects) { }
 
     /** Read input */
-    public Day09() {
+    @Override
+    protected Theater parseInput() {
+        Polygon bounds = new Polygon();
+        TreeSet<Rectangle> rects = new TreeSet<>(Comparator.comparingLong(Day09::area)
+                .reversed()
+                .thenComparingInt(r -> r.x)
+                .thenComparingInt(r -> r.y)
+                .thenComparingInt(r -> r.width)
+                .thenComparingInt(r -> r.height));
+
         List<int[]> redTiles = readInput(Day09::parseLine).toList();
         for (int i = 0; i < redTiles.size(); i++) {
             int[] a = redTiles.get(i);
@@ -61,17 +68,19 @@ public class Day09 extends AdventOfCodePuzzle {
                 rects.add(rect);
             }
         }
+
+        return new Theater(bounds, rects);
     }
 
     @Override
     public long solvePartOne() {
-        return area(rects.first());
+        return area(input().rects().first());
     }
 
     @Override
     public long solvePartTwo() {
-        return rects.stream()
-                .filter(bounds::contains)
+        return input().rects().stream()
+                .filter(input().bounds()::contains)
                 .findFirst()
                 .map(Day09::area)
                 .orElse(-1L);
@@ -93,6 +102,7 @@ public class Day09 extends AdventOfCodePuzzle {
 
     /** Solve day 9 puzzles */
     public static void main(String[] args) {
+        inputFrom(args);
         new Day09().solvePuzzles();
     }
 }
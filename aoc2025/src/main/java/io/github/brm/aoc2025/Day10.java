@@ -18,8 +18,12 @@
  */
 package io.github.brm.aoc2025;
 
+import io.github.brm.aoc2025.cmn.PuzzleStepEvent;
+import io.github.brm.aoc2025.cmn.Timed;
+
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static java.lang.Integer.MAX_VALUE;
 import static java.lang.Integer.parseInt;
@@ -31,27 +35,23 @@ import static java.lang.Math.min;
  * @author benjaminmichael
  * @since 12-14-25
  */
-public class Day10 extends AdventOfCodePuzzle {
-
-    private final List<Machine> machines;
+public class Day10 extends AdventOfCodePuzzle<List<Day10.Machine>> {
 
     /** Setup input */
-    public Day10() {
-        this.machines = readInput(Machine::fromLine).toList();
+    @Override
+    protected List<Machine> parseInput() {
+        return readInput(Machine::fromLine).toList();
     }
 
+    @Timed
     @Override
     public long solvePartOne() {
-        long start = System.currentTimeMillis();
-        long sum = machines.stream()
+        return input().stream()
                 .mapToInt(machine -> {
                     boolean[] diagram = new boolean[machine.lightDiagram().size()];
                     return solvePartOne2(machine, 0, 0, MAX_VALUE, diagram);
                 })
                 .sum();
-
-        System.out.printf("Time spent processing (%d ms)\n", System.currentTimeMillis() - start);
-        return sum;
     }
 
     /**
@@ -91,13 +91,29 @@ public class Day10 extends AdventOfCodePuzzle {
         return updatedDiagram;
     }
 
+    @Timed
     @Override
     public long solvePartTwo() {
+        List<Machine> machines = input();
         AtomicInteger count = new AtomicInteger(0);
-        return machines.parallelStream()
-                .mapToInt(machine -> {
+        return IntStream.range(0, machines.size())
+                .parallel()
+                .map(index -> {
+                    Machine machine = machines.get(index);
+                    PuzzleStepEvent event = new PuzzleStepEvent();
+                    event.begin();
                     int[] power = new int[machine.power.size()];
                     int result = solvePartTwo2(machine, 0, 0, power, MAX_VALUE);
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.day = 10;
+                        event.step = "machine";
+                        event.index = index;
+                        event.size = machine.schematics().size();
+                        event.result = result;
+                        event.commit();
+                    }
+
                     int machineNumber = count.getAndIncrement();
                     System.out.printf("Finished %d machine, %d left\n", machineNumber, machines.size() - machineNumber);
                     return result;
@@ -153,11 +169,12 @@ public class Day10 extends AdventOfCodePuzzle {
 
     /** Day10 main method */
     public static void main(String[] args) {
+        inputFrom(args);
         new Day10().solvePuzzles();
     }
 
     /** Represents a factory machine */
-    private record Machine(List<Boolean> lightDiagram, List<List<Integer>> schematics, List<Integer> power) {
+    record Machine(List<Boolean> lightDiagram, List<List<Integer>> schematics, List<Integer> power) {
 
         /**
          * Check if the given light diagram matches the light
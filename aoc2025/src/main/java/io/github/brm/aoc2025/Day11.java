@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Day 11: Reactor
@@ -30,13 +31,15 @@ import java.util.Set;
  * @author benjaminmichael
  * @since 12-11-25
  */
-public class Day11 extends AdventOfCodePuzzle {
+public class Day11 extends AdventOfCodePuzzle<Map<String, Set<String>>> {
 
-    private final Map<String, Set<String>> devices = new HashMap<>();
-    private final Map<String, Map<String, Long>> memo = new HashMap<>();
+    /** Shared by both parts, which may be solved at the same time */
+    private final Map<String, Map<String, Long>> memo = new ConcurrentHashMap<>();
 
     /** Set up the input */
-    public Day11() {
+    @Override
+    protected Map<String, Set<String>> parseInput() {
+        Map<String, Set<String>> devices = new HashMap<>();
         Iterator<String> iterator = readInput().iterator();
         while (iterator.hasNext()) {
             String line = iterator.next();
@@ -48,6 +51,8 @@ public class Day11 extends AdventOfCodePuzzle {
 
             devices.put(name, Set.of(connections));
         }
+
+        return devices;
     }
 
     @Override
@@ -65,6 +70,7 @@ public class Day11 extends AdventOfCodePuzzle {
      * @return paths from the device to visit to the last.
      */
     private long pathsBetween(Set<String> visited, String current, String last) {
+        Map<String, Set<String>> devices = input();
         if (visited.contains(current) || !devices.containsKey(current)) {
             return 0L;
         }
@@ -84,7 +90,7 @@ public class Day11 extends AdventOfCodePuzzle {
             }
         }
         visited.remove(current);
-        memo.computeIfAbsent(current, key -> new HashMap<>()).put(last, paths);
+        memo.computeIfAbsent(current, key -> new ConcurrentHashMap<>()).put(last, paths);
 
         return paths;
     }
@@ -106,6 +112,7 @@ public class Day11 extends AdventOfCodePuzzle {
 
     /** Solve day 11 */
     public static void main(String[] args) {
+        inputFrom(args);
         new Day11().solvePuzzles();
     }
 }
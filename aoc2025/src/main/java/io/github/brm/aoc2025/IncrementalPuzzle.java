@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+/**
+ * A puzzle that is solved line by line as its input arrives,
+ * rather than once the whole input exists. It only keeps what it
+ * needs to update its answers, not the lines themselves.
+ *
+ * <p> Lines are passed to {@link #accept} in input order, by one
+ * thread at a time. The answers can be read from any thread at
+ * any time and reflect the lines accepted so far.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ * @see LiveFeed
+ */
+public interface IncrementalPuzzle {
+
+    /**
+     * Take the next line of the input.
+     *
+     * @param line the line, without its line terminator. It is
+     *             only valid for the duration of the call.
+     */
+    void accept(CharSequence line);
+
+    /** The answer to part one for the lines accepted so far */
+    long partOne();
+
+    /** The answer to part two for the lines accepted so far */
+    long partTwo();
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds lines from a stream, such as standard input or a pipe,
+ * to an {@link IncrementalPuzzle} as they arrive.
+ *
+ * <p> Lines are published through a {@link SubmissionPublisher}
+ * with a bounded buffer, and the puzzle only requests a batch of
+ * lines at a time. When the puzzle falls behind the reader blocks
+ * until it catches up, so memory stays flat however long the feed
+ * runs.
+ *
+ * <p> Run as {@code LiveFeed <day> [report millis]} to solve the
+ * lines of standard input, printing the current answers
+ * periodically and the final answers at the end of the input.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class LiveFeed {
+
+    /** Lines buffered between the reader and the puzzle */
+    public static final int BUFFER_SIZE = 1024;
+    /** Lines requested by the puzzle at a time */
+    private static final int BATCH = 64;
+
+    private LiveFeed() { }
+
+    /**
+     * Read the stream line by line and feed it to the puzzle,
+     * returning once every line has been read. The stream is not
+     * closed.
+     *
+     * @param in the stream to read.
+     * @param puzzle the puzzle to feed.
+     * @return completes once the puzzle has taken every line, or
+     *         exceptionally if it failed on one.
+     */
+    public static CompletableFuture<Void> feed(InputStream in, IncrementalPuzzle puzzle) {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        LineSubscriber subscriber = new LineSubscriber(puzzle);
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>(executor, BUFFER_SIZE)) {
+            publisher.subscribe(subscriber);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.ISO_8859_1));
+            String line;
+            while ((line = reader.readLine()) != null && !subscriber.done.isDone()) {
+                // Blocks while the buffer is full
+                publisher.submit(line);
+            }
+        } catch (IOException exception) {
+            subscriber.done.completeExceptionally(new UncheckedIOException(exception));
+        }
+
+        return subscriber.done.whenComplete((ignored, error) -> executor.shutdown());
+    }
+
+    /** Passes each line on to the puzzle, a batch at a time */
+    private static final class LineSubscriber implements Flow.Subscriber<String> {
+        private final IncrementalPuzzle puzzle;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private int remaining;
+
+        LineSubscriber(IncrementalPuzzle puzzle) {
+            this.puzzle = puzzle;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            remaining = BATCH;
+            subscription.request(BATCH);
+        }
+
+        @Override
+        public void onNext(String line) {
+            try {
+                puzzle.accept(line);
+            } catch (RuntimeException exception) {
+                subscription.cancel();
+                done.completeExceptionally(exception);
+                return;
+            }
+
+            if (--remaining == 0) {
+                remaining = BATCH;
+                subscription.request(BATCH);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+
+    /** Solve the lines of standard input for the day */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: LiveFeed <day> [report millis]");
+            System.exit(2);
+        }
+
+        int day = Integer.parseInt(args[0]);
+        long reportMillis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        Class<?> type = Class.forName(String.format("%s.Day%02d", LiveFeed.class.getPackageName(), day));
+        Optional<IncrementalPuzzle> incremental =
+                ((AdventOfCodePuzzle<?>) type.getDeclaredConstructor().newInstance()).incremental();
+        if (incremental.isEmpty()) {
+            System.err.printf("Day %d cannot be solved incrementally%n", day);
+            System.exit(2);
+        }
+        IncrementalPuzzle puzzle = incremental.get();
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(() -> System.out.printf("Part one = %d, part two = %d%n",
+                puzzle.partOne(), puzzle.partTwo()), reportMillis, reportMillis, TimeUnit.MILLISECONDS);
+        try {
+            feed(System.in, puzzle).join();
+        } finally {
+            reporter.shutdownNow();
+        }
+
+        System.out.printf("Answer to day one = \"%d\"%n", puzzle.partOne());
+        System.out.printf("Answer to day two = \"%d\"%n", puzzle.partTwo());
+    }
+}
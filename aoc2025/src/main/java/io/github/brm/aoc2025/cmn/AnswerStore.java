@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A small on disk store of puzzle answers, so answers that have
+ * been computed before for the same input and solver are not
+ * computed again.
+ *
+ * <p> The store is a memory mapped file holding a fixed size open
+ * addressing table. Each slot is a 32 byte SHA-256 key followed by
+ * the 8 byte answer and the 8 byte number of the write that stored
+ * it; a key of all zeros marks an empty slot. The answer is written
+ * before its key, so a slot with a key always has its answer.
+ *
+ * <p> A key is only looked for in the {@value #PROBES} slots from
+ * where it hashes to. When none of them is free the least recently
+ * written one is overwritten, so answers keyed by code that has
+ * since been rebuilt make way for new ones and the store never
+ * fills up.
+ *
+ * <p> Several threads and several processes can use the same file.
+ * Within this JVM there is one store per file and its methods are
+ * synchronized; across processes every read holds a shared and
+ * every write an exclusive {@link FileLock} on the file.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class AnswerStore {
+
+    /** System property with the path of the store, or {@code none} to not use one */
+    public static final String PROPERTY = "aoc.answers";
+    /**
+     * Store used when {@value #PROPERTY} is not set, in the home
+     * directory so it does not depend on where the JVM starts
+     */
+    public static final Path DEFAULT_PATH = Path.of(System.getProperty("user.home"), ".aoc2025", "answers.bin");
+
+    private static final int MAGIC = 0x414F4341;
+    private static final int FORMAT = 2;
+    /** Offset of the count of writes in the header */
+    private static final int WRITES = 16;
+    private static final int HEADER_BYTES = 24;
+    private static final int KEY_BYTES = 32;
+    private static final int SLOT_BYTES = KEY_BYTES + 2 * Long.BYTES;
+    /** Slots in the table, far more than the answers of a year */
+    static final int CAPACITY = 4096;
+    /** Slots a key can be stored in */
+    private static final int PROBES = 16;
+
+    private static final Map<Path, AnswerStore> OPEN = new ConcurrentHashMap<>();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer table;
+
+    private AnswerStore(FileChannel channel, MappedByteBuffer table) {
+        this.channel = channel;
+        this.table = table;
+    }
+
+    /**
+     * The store at the path in the {@value #PROPERTY} property, or
+     * at {@link #DEFAULT_PATH}.
+     *
+     * @return the store, or {@code null} if stored answers are
+     *         turned off or the store cannot be opened.
+     */
+    public static AnswerStore shared() {
+        String property = System.getProperty(PROPERTY);
+        if ("none".equals(property)) {
+            return null;
+        }
+
+        try {
+            return open(property != null ? Path.of(property) : DEFAULT_PATH);
+        } catch (UncheckedIOException exception) {
+            System.err.printf("Not using stored answers: %s%n", exception.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Open the store at the path, creating it if needed. The same
+     * file is only opened once per JVM.
+     *
+     * @param path the store file.
+     * @return the store.
+     */
+    public static AnswerStore open(Path path) {
+        return OPEN.computeIfAbsent(path.toAbsolutePath().normalize(), AnswerStore::create);
+    }
+
+    private static AnswerStore create(Path path) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = HEADER_BYTES + (long) CAPACITY * SLOT_BYTES;
+            FileLock lock = channel.lock();
+            try {
+                MappedByteBuffer table = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                // A new file, or one written in another format, starts over empty
+                if (table.getInt(0) != MAGIC || table.getInt(4) != FORMAT || table.getInt(8) != CAPACITY) {
+                    for (int i = 0; i < size; i += Long.BYTES) {
+                        table.putLong(i, 0);
+                    }
+                    table.putInt(4, FORMAT);
+                    table.putInt(8, CAPACITY);
+                    table.putInt(0, MAGIC);
+                    table.force();
+                }
+                return new AnswerStore(channel, table);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Build the key of an answer.
+     *
+     * @param inputDigest SHA-256 of the input bytes.
+     * @param version tag identifying the solver.
+     * @param day the day.
+     * @param part the part, such as {@code "part one"}.
+     * @return the key.
+     */
+    public static byte[] key(byte[] inputDigest, String version, int day, String part) {
+        MessageDigest digest = sha256();
+        digest.update(inputDigest);
+        digest.update((version + "\n" + day + "\n" + part).getBytes(StandardCharsets.UTF_8));
+        return digest.digest();
+    }
+
+    /** A new SHA-256 digest */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Look up a stored answer.
+     *
+     * @param key the key from {@link #key}.
+     * @return the answer, or empty if none is stored.
+     */
+    public synchronized OptionalLong get(byte[] key) {
+        try {
+            FileLock lock = channel.lock(0, Long.MAX_VALUE, true);
+            try {
+                int slot = find(key);
+                return slot >= 0 ? OptionalLong.of(table.getLong(offset(slot) + KEY_BYTES)) : OptionalLong.empty();
+            } finally {
+                lock.release();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Store an answer, replacing any answer stored for the key, or
+     * the least recently written answer near where the key hashes
+     * to if there is no room.
+     *
+     * @param key the key from {@link #key}.
+     * @param answer the answer.
+     */
+    public synchronized void put(byte[] key, long answer) {
+        try {
+            FileLock lock = channel.lock();
+            try {
+                int slot = slotFor(key);
+                int offset = offset(slot);
+                long written = table.getLong(WRITES) + 1;
+                table.putLong(WRITES, written);
+                if (!isEmpty(slot) && !holds(slot, key)) {
+                    // Drop the old key first, it must never be paired with this answer
+                    table.put(offset, new byte[KEY_BYTES]);
+                }
+                table.putLong(offset + KEY_BYTES, answer);
+                table.putLong(offset + KEY_BYTES + Long.BYTES, written);
+                table.put(offset, key);
+                table.force();
+            } finally {
+                lock.release();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /** Slot holding the key, or {@code -1} */
+    private int find(byte[] key) {
+        int start = start(key);
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & (CAPACITY - 1);
+            if (isEmpty(slot)) {
+                // Slots are never emptied, so the key is not further on
+                return -1;
+            }
+            if (holds(slot, key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /** Slot holding the key, or the first empty slot, or the least recently written slot */
+    private int slotFor(byte[] key) {
+        int start = start(key);
+        int oldest = start;
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & (CAPACITY - 1);
+            if (isEmpty(slot) || holds(slot, key)) {
+                return slot;
+            }
+            if (written(slot) < written(oldest)) {
+                oldest = slot;
+            }
+        }
+        return oldest;
+    }
+
+    /** First slot the key can be stored in */
+    private static int start(byte[] key) {
+        if (key.length != KEY_BYTES) {
+            throw new IllegalArgumentException("Keys are " + KEY_BYTES + " bytes, not " + key.length);
+        }
+        return ByteBuffer.wrap(key).getInt() & (CAPACITY - 1);
+    }
+
+    private boolean holds(int slot, byte[] key) {
+        byte[] stored = new byte[KEY_BYTES];
+        table.get(offset(slot), stored);
+        return Arrays.equals(stored, key);
+    }
+
+    /** Number of the write that stored the slot's answer */
+    private long written(int slot) {
+        return table.getLong(offset(slot) + KEY_BYTES + Long.BYTES);
+    }
+
+    private boolean isEmpty(int slot) {
+        int offset = offset(slot);
+        for (int i = 0; i < KEY_BYTES; i += Long.BYTES) {
+            if (table.getLong(offset + i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int offset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+}
@@ -27,9 +27,50 @@ import java.lang.annotation.Target;
  * Annotation that can be applied to methods in order to cache
  * calls to the method and avoid doing duplicate work.
  *
+ * <p> Calls are looked up by their arguments, so arguments must
+ * have value based {@code equals} and {@code hashCode} and must
+ * not change once passed. Hit and miss counts are available from
+ * {@link CacheAspect#stats()}.
+ *
+ * <p> By default each object gets its own cache, which goes away
+ * with the object or when {@link CacheAspect#invalidate(Object)}
+ * is called for it, and is not bounded in size.
+ *
  * @author benjaminmichael
  * @since 0.0.0
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface Cache { }
+public @interface Cache {
+
+    /** Who shares the cached values of a method */
+    enum Scope {
+        /** Each target object has its own values, static methods behave as {@link #GLOBAL} */
+        INSTANCE,
+        /** Each thread has its own values */
+        THREAD,
+        /** Every caller shares the same values */
+        GLOBAL
+    }
+
+    /** How a bounded cache picks which value to drop when full */
+    enum Eviction {
+        /** Drop the least recently used value */
+        LRU,
+        /**
+         * Keep the values used most often. New values go through
+         * a small LRU window, and only replace a value of the main
+         * cache if they have been asked for more often recently.
+         */
+        TINY_LFU
+    }
+
+    /** Who shares the cached values */
+    Scope scope() default Scope.INSTANCE;
+
+    /** Largest number of values kept in each cache, {@code 0} for no limit */
+    int maxSize() default 0;
+
+    /** How values are dropped once {@link #maxSize()} is reached */
+    Eviction eviction() default Eviction.LRU;
+}
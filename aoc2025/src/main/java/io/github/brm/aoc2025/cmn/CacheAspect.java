@@ -18,50 +18,375 @@
  */
 package io.github.brm.aoc2025.cmn;
 
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Aspect used with the {@link Cache} annotation.
  *
+ * <p> Each annotated method has its own tables, keyed directly by
+ * its arguments: no key is needed for a method without arguments,
+ * a single argument is its own key, and several arguments are
+ * compared element by element. {@code null} results are cached
+ * too. Which table a call uses depends on the {@link Cache.Scope}
+ * of the method; tables of {@link Cache.Scope#INSTANCE} methods
+ * are only weakly tied to their target, so they are dropped
+ * along with it.
+ *
+ * <p> A value is computed once, even under contention. The first
+ * caller leaves a placeholder beside the table while it runs the
+ * method, and other threads asking for the same arguments wait
+ * for its result instead of computing it again. Placeholders are
+ * not subject to eviction, only finished values enter a bounded
+ * table. A method that calls itself with the arguments it is
+ * already computing runs uncached rather than waiting on itself.
+ *
  * @author benjaminmichael
  * @since 0.0.0
  */
 @Aspect
 public class CacheAspect {
 
-   /** Map of method call to object value */
-   private final Map<String, Object> cache = new ConcurrentHashMap<>();
+   /** Stands in for a cached {@code null} result */
+   private static final Object NULL = new Object();
+   /** Key for methods without arguments */
+   private static final Object NO_ARGS = new Object();
+
+   /** Cache for each advised method, resolved on its first call */
+   private static final Map<JoinPoint.StaticPart, MethodCache> CACHES = new ConcurrentHashMap<>();
 
-   @Around("@annotation(io.github.brm.aoc2025.cmn.Cache)")
+   @Around("execution(@io.github.brm.aoc2025.cmn.Cache * *(..))")
    public Object cacheMethod(ProceedingJoinPoint pjp) throws Throwable {
-      String cacheKey = generateCacheKey(pjp);
-      if (cache.containsKey(cacheKey)) {
-         return cache.get(cacheKey);
+      MethodCache cache = CACHES.get(pjp.getStaticPart());
+      if (cache == null) {
+         cache = CACHES.computeIfAbsent(pjp.getStaticPart(), MethodCache::of);
       }
 
-      Object result = pjp.proceed();
-      cache.put(cacheKey, result);
-      return result;
+      return cache.get(pjp.getTarget(), key(pjp.getArgs()), pjp::proceed);
+   }
+
+   /**
+    * Statistics of every cached method called so far.
+    *
+    * @return the statistics, ordered by method name.
+    */
+   public static List<CacheStats> stats() {
+      return CACHES.values().stream()
+            .map(MethodCache::stats)
+            .sorted(Comparator.comparing(CacheStats::name))
+            .toList();
    }
 
    /**
-    * Returns a cache key for a method where the key is a
-    * concatenation of the target class name, method name,
-    * and arguments.
+    * Drop the values cached for the target. This clears the
+    * instance tables of the target, and the thread and global
+    * tables of cached methods declared by its class. Statistics
+    * are kept.
     *
-    * @param pjp the method join point.
-    * @return a cache key.
+    * @param target the object whose values to drop.
+    */
+   public static void invalidate(Object target) {
+      for (MethodCache cache : CACHES.values()) {
+         cache.invalidate(target);
+      }
+   }
+
+   /** Drop every cached value of every method */
+   public static void invalidateAll() {
+      for (MethodCache cache : CACHES.values()) {
+         cache.clear();
+      }
+   }
+
+   /** Build the table key for the arguments of a call */
+   private static Object key(Object[] args) {
+      if (args.length == 0) {
+         return NO_ARGS;
+      }
+
+      if (args.length == 1) {
+         Object arg = args[0];
+         if (arg == null) {
+            return NULL;
+         }
+         if (!arg.getClass().isArray()) {
+            return arg;
+         }
+      }
+
+      return new ArgumentsKey(args);
+   }
+
+   /** Key for several arguments, or a single array argument */
+   private static final class ArgumentsKey {
+      private final Object[] args;
+      private final int hash;
+
+      ArgumentsKey(Object[] args) {
+         this.args = args;
+         this.hash = Arrays.deepHashCode(args);
+      }
+
+      @Override
+      public int hashCode() {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         return o instanceof ArgumentsKey other && hash == other.hash && Arrays.deepEquals(args, other.args);
+      }
+   }
+
+   /** Placeholder for a value that is being computed */
+   private static final class Loading extends CompletableFuture<Object> {
+      private final Thread owner = Thread.currentThread();
+
+      /** Wait for the value, rethrowing anything the method threw */
+      Object await() throws Throwable {
+         try {
+            return join();
+         } catch (CompletionException exception) {
+            throw exception.getCause();
+         }
+      }
+   }
+
+   /**
+    * Weak reference to a target, equal to another only if both
+    * still refer to the very same object.
     */
-   private String generateCacheKey(ProceedingJoinPoint pjp) {
-      String className = pjp.getTarget().getClass().getSimpleName();
-      String methodName = pjp.getSignature().getName();
-      String args = Arrays.toString(pjp.getArgs());
-      return className + "." + methodName + "(" + args + ")";
+   private static final class TargetKey extends WeakReference<Object> {
+      private final int hash;
+
+      TargetKey(Object target, ReferenceQueue<Object> queue) {
+         super(target, queue);
+         this.hash = System.identityHashCode(target);
+      }
+
+      @Override
+      public int hashCode() {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) {
+            return true;
+         }
+         Object target = get();
+         return target != null && o instanceof TargetKey other && other.get() == target;
+      }
+   }
+
+   /** The table of the target last looked up */
+   private record Binding(TargetKey target, CacheTable table) { }
+
+   /** Computes a value that is not cached, i.e. runs the method */
+   @FunctionalInterface
+   interface Loader {
+      Object load() throws Throwable;
+   }
+
+   /** The cached values of a single method */
+   static final class MethodCache {
+      private final String name;
+      private final Class<?> declaringType;
+      private final Cache settings;
+      private final LongAdder hits = new LongAdder();
+      private final LongAdder misses = new LongAdder();
+      private final LongAdder evictions = new LongAdder();
+      private final LongAdder loadNanos = new LongAdder();
+
+      /** Table of static methods and of the global scope */
+      private final CacheTable global;
+      /** Tables of the thread scope, also tracked per thread so they can be cleared */
+      private final ThreadLocal<CacheTable> threadTable;
+      private final Map<Thread, CacheTable> threadTables = Collections.synchronizedMap(new WeakHashMap<>());
+      /** Tables of the instance scope */
+      private final Map<TargetKey, CacheTable> instanceTables = new ConcurrentHashMap<>();
+      private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+      /** Recursive methods call back with the same target, so remember the last one */
+      private volatile Binding last;
+
+      MethodCache(String name, Class<?> declaringType, Cache settings) {
+         this.name = name;
+         this.declaringType = declaringType;
+         this.settings = settings;
+         this.global = newTable();
+         this.threadTable = ThreadLocal.withInitial(() -> {
+            CacheTable table = newTable();
+            threadTables.put(Thread.currentThread(), table);
+            return table;
+         });
+      }
+
+      /** The cache of the advised method */
+      static MethodCache of(JoinPoint.StaticPart joinPoint) {
+         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+         Class<?> declaringType = signature.getDeclaringType();
+         return new MethodCache(declaringType.getSimpleName() + "." + signature.getName(), declaringType,
+               signature.getMethod().getAnnotation(Cache.class));
+      }
+
+      private CacheTable newTable() {
+         return CacheTable.create(settings, evictions);
+      }
+
+      /** The table for a call on the target */
+      private CacheTable table(Object target) {
+         return switch (settings.scope()) {
+            case GLOBAL -> global;
+            case THREAD -> threadTable.get();
+            case INSTANCE -> target == null ? global : instanceTable(target);
+         };
+      }
+
+      private CacheTable instanceTable(Object target) {
+         Binding binding = last;
+         if (binding != null && binding.target().get() == target) {
+            return binding.table();
+         }
+
+         expungeCollected();
+         TargetKey key = new TargetKey(target, collected);
+         CacheTable table = instanceTables.computeIfAbsent(key, ignored -> newTable());
+         last = new Binding(key, table);
+         return table;
+      }
+
+      /** Drop the tables of targets that have been garbage collected */
+      private void expungeCollected() {
+         Reference<?> reference;
+         while ((reference = collected.poll()) != null) {
+            instanceTables.remove(reference);
+         }
+      }
+
+      /**
+       * The cached value for the key, loading it if there is none.
+       *
+       * @param target the object the method is called on, or
+       *        {@code null} for a static method.
+       * @param key the key of the arguments.
+       * @param loader runs the method.
+       * @return the value.
+       * @throws Throwable anything the method threw.
+       */
+      Object get(Object target, Object key, Loader loader) throws Throwable {
+         CacheTable table = table(target);
+         Object cached = table.get(key);
+         if (cached == null) {
+            Loading loading = new Loading();
+            Object running = table.startLoad(key, loading);
+            if (running == null) {
+               // A load may have finished between the lookup and the claim
+               cached = table.get(key);
+               if (cached == null) {
+                  return load(table, key, loading, loader);
+               }
+               table.finishLoad(key, loading);
+               loading.complete(cached == NULL ? null : cached);
+            } else {
+               cached = running;
+            }
+         }
+
+         if (cached instanceof Loading loading) {
+            if (loading.owner == Thread.currentThread()) {
+               // Waiting on ourselves would never finish
+               misses.increment();
+               return loader.load();
+            }
+
+            hits.increment();
+            return loading.await();
+         }
+
+         hits.increment();
+         return cached == NULL ? null : cached;
+      }
+
+      /** Run the method and publish its result to any waiting threads */
+      private Object load(CacheTable table, Object key, Loading loading, Loader loader) throws Throwable {
+         misses.increment();
+         long start = System.nanoTime();
+         try {
+            Object result = loader.load();
+            // The value is in the table before the claim goes, so no caller misses both
+            table.put(key, result == null ? NULL : result);
+            loading.complete(result);
+            return result;
+         } catch (Throwable throwable) {
+            // Nothing is cached, the next call tries again
+            loading.completeExceptionally(throwable);
+            throw throwable;
+         } finally {
+            table.finishLoad(key, loading);
+            loadNanos.add(System.nanoTime() - start);
+         }
+      }
+
+      void invalidate(Object target) {
+         Binding binding = last;
+         if (binding != null && binding.target().get() == target) {
+            last = null;
+         }
+
+         CacheTable table = instanceTables.remove(new TargetKey(target, null));
+         if (table != null) {
+            table.clear();
+         }
+
+         if (declaringType.isInstance(target)) {
+            global.clear();
+            clearThreadTables();
+         }
+         expungeCollected();
+      }
+
+      void clear() {
+         last = null;
+         instanceTables.clear();
+         global.clear();
+         clearThreadTables();
+      }
+
+      private void clearThreadTables() {
+         synchronized (threadTables) {
+            threadTables.values().forEach(CacheTable::clear);
+         }
+      }
+
+      CacheStats stats() {
+         expungeCollected();
+         int size = global.size();
+         for (CacheTable table : instanceTables.values()) {
+            size += table.size();
+         }
+         synchronized (threadTables) {
+            for (CacheTable table : threadTables.values()) {
+               size += table.size();
+            }
+         }
+         return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), loadNanos.sum(), size);
+      }
    }
 }
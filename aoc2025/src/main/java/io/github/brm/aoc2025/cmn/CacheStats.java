@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+/**
+ * Statistics for one method annotated with {@link Cache}.
+ *
+ * @param name the cached method, as {@code Class.method}.
+ * @param hits calls answered from the cache, including calls that
+ *             waited for another thread computing the same value.
+ * @param misses calls that had to run the method.
+ * @param evictions values dropped to keep a bounded cache in size.
+ * @param loadNanos total time spent running the method on a miss.
+ *                  Recursive calls are included in the time of the
+ *                  call that made them, so this can add up to more
+ *                  than the elapsed time.
+ * @param size number of values currently cached.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public record CacheStats(String name, long hits, long misses, long evictions, long loadNanos, int size) {
+
+    /** Fraction of calls answered from the cache */
+    public double hitRate() {
+        long calls = hits + misses;
+        return calls == 0 ? 0 : (double) hits / calls;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d hits, %d misses (%.1f%% hit rate), %d evicted, %.3f ms loading, %d cached",
+                name, hits, misses, hitRate() * 100, evictions, loadNanos / 1e6, size);
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The values cached for one {@link Cache} method in one scope.
+ *
+ * <p> Placeholders of values still being computed are kept apart
+ * from the cached values, in a map that is never bounded, so a
+ * full table cannot evict a load that other callers are waiting
+ * on. Only finished values count towards the size of the table.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+abstract class CacheTable {
+
+    /** Placeholders of the values being computed, by key */
+    private final Map<Object, Object> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Create a table for the settings of the annotation.
+     *
+     * @param cache the annotation.
+     * @param evictions counter bumped for every value dropped.
+     * @return the table.
+     */
+    static CacheTable create(Cache cache, LongAdder evictions) {
+        if (cache.maxSize() <= 0) {
+            return new Unbounded();
+        }
+
+        return switch (cache.eviction()) {
+            case LRU -> new Lru(cache.maxSize(), evictions);
+            case TINY_LFU -> new TinyLfu(cache.maxSize(), evictions);
+        };
+    }
+
+    /**
+     * Claim the key for computing its value.
+     *
+     * @param key the key.
+     * @param placeholder stands in for the value until it is known.
+     * @return the placeholder of a load of the key that is already
+     *         running, or {@code null} if the key was claimed.
+     */
+    final Object startLoad(Object key, Object placeholder) {
+        return loads.putIfAbsent(key, placeholder);
+    }
+
+    /** Release a key claimed by {@link #startLoad}, once its value is in the table or failed */
+    final void finishLoad(Object key, Object placeholder) {
+        loads.remove(key, placeholder);
+    }
+
+    /** The value for the key, or {@code null} */
+    abstract Object get(Object key);
+
+    /** Set the value for the key */
+    abstract void put(Object key, Object value);
+
+    abstract int size();
+
+    abstract void clear();
+
+    /** A table that never drops values */
+    private static final class Unbounded extends CacheTable {
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        @Override
+        Object get(Object key) {
+            return values.get(key);
+        }
+
+        @Override
+        void put(Object key, Object value) {
+            values.put(key, value);
+        }
+
+        @Override
+        int size() {
+            return values.size();
+        }
+
+        @Override
+        void clear() {
+            values.clear();
+        }
+    }
+
+    /** A table that drops the least recently used value when full */
+    private static final class Lru extends CacheTable {
+        private final Map<Object, Object> values;
+
+        Lru(int maxSize, LongAdder evictions) {
+            this.values = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                    if (size() > maxSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        @Override
+        synchronized Object get(Object key) {
+            return values.get(key);
+        }
+
+        @Override
+        synchronized void put(Object key, Object value) {
+            values.put(key, value);
+        }
+
+        @Override
+        synchronized int size() {
+            return values.size();
+        }
+
+        @Override
+        synchronized void clear() {
+            values.clear();
+        }
+    }
+
+    /**
+     * A table in the style of W-TinyLFU. New values enter a small
+     * LRU window. A value pushed out of the window only gets into
+     * the main LRU region if a frequency sketch says it has been
+     * asked for more often than the value it would replace, so a
+     * burst of one off keys cannot flush out the values that are
+     * used over and over.
+     */
+    private static final class TinyLfu extends CacheTable {
+        private final Map<Object, Object> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<Object, Object> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final int windowSize;
+        private final int mainSize;
+        private final FrequencySketch sketch;
+        private final LongAdder evictions;
+
+        TinyLfu(int maxSize, LongAdder evictions) {
+            // The window gets about 1% of the space
+            this.windowSize = Math.max(1, maxSize / 100);
+            this.mainSize = maxSize - windowSize;
+            this.sketch = new FrequencySketch(maxSize);
+            this.evictions = evictions;
+        }
+
+        @Override
+        synchronized Object get(Object key) {
+            sketch.increment(key);
+            Object value = window.get(key);
+            return value != null ? value : main.get(key);
+        }
+
+        @Override
+        synchronized void put(Object key, Object value) {
+            if (window.containsKey(key)) {
+                window.put(key, value);
+            } else if (main.containsKey(key)) {
+                main.put(key, value);
+            } else {
+                add(key, value);
+            }
+        }
+
+        @Override
+        synchronized int size() {
+            return window.size() + main.size();
+        }
+
+        @Override
+        synchronized void clear() {
+            window.clear();
+            main.clear();
+            sketch.clear();
+        }
+
+        /** Add a new value to the window, moving its eldest on if it overflows */
+        private void add(Object key, Object value) {
+            window.put(key, value);
+            if (window.size() <= windowSize) {
+                return;
+            }
+
+            Iterator<Map.Entry<Object, Object>> eldest = window.entrySet().iterator();
+            Map.Entry<Object, Object> candidate = eldest.next();
+            eldest.remove();
+
+            if (main.size() < mainSize) {
+                main.put(candidate.getKey(), candidate.getValue());
+                return;
+            }
+
+            evictions.increment();
+            if (mainSize == 0) {
+                return;
+            }
+
+            Iterator<Map.Entry<Object, Object>> victims = main.entrySet().iterator();
+            Map.Entry<Object, Object> victim = victims.next();
+            if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                victims.remove();
+                main.put(candidate.getKey(), candidate.getValue());
+            }
+        }
+    }
+
+    /**
+     * Approximate recent access counts, a count-min sketch of small
+     * saturating counters. All counters are halved once enough
+     * accesses have been seen, so old popularity fades.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final long[] SEEDS = {
+                0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+        private final byte[][] counts;
+        private final int mask;
+        private final int resetAfter;
+        private int additions;
+
+        FrequencySketch(int maxSize) {
+            int width = Integer.highestOneBit(Math.max(16, maxSize) - 1) << 1;
+            this.counts = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.resetAfter = 10 * Math.max(16, maxSize);
+        }
+
+        void increment(Object key) {
+            int hash = key.hashCode();
+            for (int row = 0; row < DEPTH; row++) {
+                int index = index(hash, row);
+                if (counts[row][index] < MAX_COUNT) {
+                    counts[row][index]++;
+                }
+            }
+
+            if (++additions >= resetAfter) {
+                halve();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = key.hashCode();
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                frequency = Math.min(frequency, counts[row][index(hash, row)]);
+            }
+            return frequency;
+        }
+
+        void clear() {
+            for (byte[] row : counts) {
+                Arrays.fill(row, (byte) 0);
+            }
+            additions = 0;
+        }
+
+        private int index(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            return (int) (h >>> 32) & mask;
+        }
+
+        private void halve() {
+            for (byte[] row : counts) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
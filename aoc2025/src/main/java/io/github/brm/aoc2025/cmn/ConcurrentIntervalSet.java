@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.util.Arrays;
+
+/**
+ * A set of {@code long} values made of closed intervals that can
+ * be added to while other threads look values up. Added intervals
+ * are merged with the ones they overlap, as when an
+ * {@link IntervalSet} is built, and the number of values covered
+ * is kept up to date exactly.
+ *
+ * <p> The intervals are split into immutable segments of up to
+ * {@value #SEGMENT_SIZE} intervals each. An add copies only the
+ * segments it touches and the small array of segments, then
+ * publishes the result with a single volatile write. Lookups read
+ * whichever version was last published and never wait; adds are
+ * serialized with each other.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class ConcurrentIntervalSet {
+
+    /** Most intervals written into a segment */
+    private static final int SEGMENT_SIZE = 512;
+
+    /**
+     * An immutable run of disjoint intervals, in order.
+     *
+     * @param starts the first value of each interval.
+     * @param ends the last value of each interval.
+     * @param cardinality number of values covered.
+     */
+    private record Segment(long[] starts, long[] ends, long cardinality) { }
+
+    /**
+     * An immutable version of the whole set.
+     *
+     * @param firsts the first value of each segment.
+     * @param segments the segments, in order.
+     * @param size number of intervals.
+     * @param cardinality number of values covered.
+     */
+    private record Snapshot(long[] firsts, Segment[] segments, int size, long cardinality) { }
+
+    private volatile Snapshot snapshot = new Snapshot(new long[0], new Segment[0], 0, 0);
+
+    /**
+     * Add the closed interval {@code [start, end]}, merging it with
+     * every interval it overlaps or shares a value with.
+     *
+     * @param start the first value of the interval.
+     * @param end the last value of the interval.
+     * @throws IllegalArgumentException if the interval ends before
+     *         it starts.
+     */
+    public void add(long start, long end) {
+        if (start > end) {
+            throw new IllegalArgumentException("Interval " + start + "-" + end + " ends before it starts");
+        }
+
+        synchronized (this) {
+            Snapshot current = snapshot;
+            if (covers(current, start, end)) {
+                return;
+            }
+
+            // Only intervals in these segments can overlap the new one
+            Segment[] segments = current.segments();
+            int from = Math.max(0, floor(current.firsts(), start));
+            int to = Math.max(from, floor(current.firsts(), end));
+            if (segments.length == 0) {
+                to = -1;
+            }
+
+            int length = 1;
+            long removed = 0;
+            for (int s = from; s <= to; s++) {
+                length += segments[s].starts().length;
+                removed += segments[s].cardinality();
+            }
+
+            long[] starts = new long[length];
+            long[] ends = new long[length];
+            int n = 0;
+            boolean placed = false;
+            for (int s = from; s <= to; s++) {
+                Segment segment = segments[s];
+                for (int i = 0; i < segment.starts().length; i++) {
+                    if (!placed && start < segment.starts()[i]) {
+                        n = append(starts, ends, n, start, end);
+                        placed = true;
+                    }
+                    n = append(starts, ends, n, segment.starts()[i], segment.ends()[i]);
+                }
+            }
+            if (!placed) {
+                n = append(starts, ends, n, start, end);
+            }
+
+            snapshot = replace(current, from, to, starts, ends, n, removed, length - 1);
+        }
+    }
+
+    /** Check if a single interval of the snapshot covers all of {@code [start, end]} */
+    private static boolean covers(Snapshot snapshot, long start, long end) {
+        int s = floor(snapshot.firsts(), start);
+        if (s < 0) {
+            return false;
+        }
+        Segment segment = snapshot.segments()[s];
+        int i = IntervalSet.search(segment.starts(), 0, segment.starts().length, start);
+        return end <= segment.ends()[i];
+    }
+
+    /** Add an interval after the ones before it, merging it with the last if they overlap */
+    private static int append(long[] starts, long[] ends, int n, long start, long end) {
+        if (n > 0 && start <= ends[n - 1]) {
+            ends[n - 1] = Math.max(ends[n - 1], end);
+            return n;
+        }
+        starts[n] = start;
+        ends[n] = end;
+        return n + 1;
+    }
+
+    /**
+     * A snapshot with the segments {@code [from, to]} replaced by
+     * new segments holding the first {@code n} merged intervals.
+     */
+    private static Snapshot replace(Snapshot current, int from, int to,
+                                    long[] starts, long[] ends, int n, long removed, int removedSize) {
+        int chunks = (n + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+        Segment[] old = current.segments();
+        Segment[] segments = new Segment[old.length - (to - from + 1) + chunks];
+        System.arraycopy(old, 0, segments, 0, from);
+        System.arraycopy(old, to + 1, segments, from + chunks, old.length - to - 1);
+        long[] firsts = new long[segments.length];
+        System.arraycopy(current.firsts(), 0, firsts, 0, from);
+        System.arraycopy(current.firsts(), to + 1, firsts, from + chunks, old.length - to - 1);
+
+        long added = 0;
+        for (int c = 0; c < chunks; c++) {
+            // Spread the intervals evenly so no segment is left tiny
+            int lo = (int) ((long) n * c / chunks);
+            int hi = (int) ((long) n * (c + 1) / chunks);
+            long cardinality = 0;
+            for (int i = lo; i < hi; i++) {
+                cardinality = Math.addExact(cardinality, ends[i] - starts[i] + 1);
+            }
+            segments[from + c] = new Segment(
+                    Arrays.copyOfRange(starts, lo, hi), Arrays.copyOfRange(ends, lo, hi), cardinality);
+            firsts[from + c] = starts[lo];
+            added = Math.addExact(added, cardinality);
+        }
+
+        return new Snapshot(firsts, segments, current.size() - removedSize + n,
+                Math.addExact(current.cardinality() - removed, added));
+    }
+
+    /** Check if the value is in the set, never blocks */
+    public boolean contains(long value) {
+        Snapshot current = snapshot;
+        int s = floor(current.firsts(), value);
+        if (s < 0) {
+            return false;
+        }
+        Segment segment = current.segments()[s];
+        int i = IntervalSet.search(segment.starts(), 0, segment.starts().length, value);
+        return value <= segment.ends()[i];
+    }
+
+    /** Number of disjoint intervals in the set */
+    public int size() {
+        return snapshot.size();
+    }
+
+    public boolean isEmpty() {
+        return snapshot.size() == 0;
+    }
+
+    /** Number of values in the set */
+    public long cardinality() {
+        return snapshot.cardinality();
+    }
+
+    /** Index of the last sorted value at most the value, or {@code -1} */
+    private static int floor(long[] sorted, long value) {
+        return sorted.length == 0 || value < sorted[0] ? -1 : IntervalSet.search(sorted, 0, sorted.length, value);
+    }
+}
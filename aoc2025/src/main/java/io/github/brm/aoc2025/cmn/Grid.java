@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.util.Arrays;
+
+/**
+ * A 2D grid of ASCII cells stored in one flat {@code byte[]}.
+ *
+ * <p> The grid is surrounded by a one cell border holding
+ * {@link #BORDER}, so a neighbor of any cell inside the grid is
+ * always a valid index and needs no bounds check; a neighbor that
+ * is off the grid simply reads as {@link #BORDER}.
+ *
+ * <p> Cells are addressed by an {@code int} id rather than a row
+ * and column, and the neighbors of a cell are found by adding the
+ * offsets from {@link #neighbors4()} or {@link #neighbors8()} to
+ * its id. Ids are below {@link #size()}, so per cell state can be
+ * kept in plain arrays indexed by id.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class Grid {
+
+    /** Value of the cells around the grid */
+    public static final byte BORDER = 0;
+
+    private final byte[] cells;
+    private final int width;
+    private final int height;
+    /** Distance between the ids of two vertically adjacent cells */
+    private final int stride;
+    private final int[] neighbors4;
+    private final int[] neighbors8;
+
+    private Grid(byte[] cells, int width, int height) {
+        this.cells = cells;
+        this.width = width;
+        this.height = height;
+        this.stride = width + 2;
+        this.neighbors4 = new int[] {-stride, stride, -1, 1};
+        this.neighbors8 = new int[] {-stride, stride, -1, 1, -stride - 1, -stride + 1, stride - 1, stride + 1};
+    }
+
+    /**
+     * Read a grid from the input, skipping blank lines. Rows
+     * shorter than the longest row are padded with
+     * {@link #BORDER}.
+     *
+     * @param input the input to read.
+     * @return the grid.
+     */
+    public static Grid from(MappedInput input) {
+        int[] size = new int[2];
+        input.forEachLine(line -> {
+            if (!line.isBlank()) {
+                size[0]++;
+                size[1] = Math.max(size[1], line.length());
+            }
+        });
+
+        int height = size[0];
+        int width = size[1];
+        if ((long) (height + 2) * (width + 2) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grid of " + height + "x" + width + " is too large");
+        }
+
+        byte[] cells = new byte[(height + 2) * (width + 2)];
+        int[] row = {0};
+        input.forEachLine(line -> {
+            if (!line.isBlank()) {
+                int offset = (row[0]++ + 1) * (width + 2) + 1;
+                for (int c = 0; c < line.length(); c++) {
+                    cells[offset + c] = line.byteAt(c);
+                }
+            }
+        });
+
+        return new Grid(cells, width, height);
+    }
+
+    /** A copy of this grid that can be changed independently */
+    public Grid copy() {
+        return new Grid(Arrays.copyOf(cells, cells.length), width, height);
+    }
+
+    /** Number of columns */
+    public int width() {
+        return width;
+    }
+
+    /** Number of rows */
+    public int height() {
+        return height;
+    }
+
+    /** Difference in id between a cell and the cell below it */
+    public int stride() {
+        return stride;
+    }
+
+    /** Upper bound, exclusive, of every cell id including the border */
+    public int size() {
+        return cells.length;
+    }
+
+    /** Id of the cell at the given row and column */
+    public int cell(int row, int col) {
+        return (row + 1) * stride + col + 1;
+    }
+
+    /** Row of the cell */
+    public int row(int cell) {
+        return cell / stride - 1;
+    }
+
+    /** Column of the cell */
+    public int col(int cell) {
+        return cell % stride - 1;
+    }
+
+    /** Value of the cell */
+    public byte get(int cell) {
+        return cells[cell];
+    }
+
+    /** Set the value of the cell */
+    public void set(int cell, byte value) {
+        cells[cell] = value;
+    }
+
+    /** Offsets of the 4 orthogonal neighbors, must not be modified */
+    public int[] neighbors4() {
+        return neighbors4;
+    }
+
+    /** Offsets of all 8 neighbors, must not be modified */
+    public int[] neighbors8() {
+        return neighbors8;
+    }
+
+    /**
+     * Count the neighbors of the cell that have the given value.
+     *
+     * @param cell the cell.
+     * @param offsets neighbor offsets, from {@link #neighbors4()}
+     *                or {@link #neighbors8()}.
+     * @param value the value to count.
+     * @return number of neighbors with the value.
+     */
+    public int countNeighbors(int cell, int[] offsets, byte value) {
+        int count = 0;
+        for (int offset : offsets) {
+            if (cells[cell + offset] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Id of the first cell, in row order, with the given value.
+     *
+     * @param value the value to find.
+     * @return the cell id or {@code -1} if no cell has the value.
+     */
+    public int indexOf(byte value) {
+        for (int row = 0; row < height; row++) {
+            for (int cell = cell(row, 0), end = cell + width; cell < end; cell++) {
+                if (cells[cell] == value) {
+                    return cell;
+                }
+            }
+        }
+        return -1;
+    }
+}
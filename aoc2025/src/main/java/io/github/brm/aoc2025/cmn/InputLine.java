@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A view over a single line of a {@link MappedInput}. The same
+ * instance is reused for every line handed out by
+ * {@link MappedInput#forEachLine}, so it must not be held on to
+ * after the callback returns; call {@link #toString()} if the
+ * line needs to outlive the callback.
+ *
+ * <p> Inputs are expected to be ASCII, each byte is exposed as
+ * a single {@code char}.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class InputLine implements CharSequence {
+
+    private ByteBuffer buffer;
+    private int start;
+    private int end;
+
+    /** Point this view at the bytes in {@code [start, end)} */
+    InputLine set(ByteBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        return this;
+    }
+
+    /** The buffer this line is a view over */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /** Absolute offset of the first byte of this line in {@link #buffer()} */
+    public int start() {
+        return start;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    /** The byte at the given index of this line */
+    public byte byteAt(int index) {
+        return buffer.get(start + index);
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (byteAt(index) & 0xFF);
+    }
+
+    /** Check if this line is empty or only contains whitespace */
+    public boolean isBlank() {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) > ' ') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the given
+     * byte at or after {@code from}, or {@code -1} if there is
+     * none.
+     */
+    public int indexOf(byte b, int from) {
+        int i = start + from;
+
+        // Eight bytes at a time, flagging the high bit of each byte
+        // that matches; exact, so the first flag is the first match
+        long pattern = (b & 0xFFL) * 0x0101010101010101L;
+        for (; i + Long.BYTES <= end; i += Long.BYTES) {
+            long word = buffer.getLong(i) ^ pattern;
+            long found = ~(((word & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL) | word | 0x7F7F7F7F7F7F7F7FL);
+            if (found != 0) {
+                return i - start + (Long.numberOfLeadingZeros(found) >>> 3);
+            }
+        }
+
+        for (; i < end; i++) {
+            if (buffer.get(i) == b) {
+                return i - start;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Parse the decimal number in {@code [from, to)} of this
+     * line, an optional leading {@code -} is allowed.
+     *
+     * @param from start index, inclusive.
+     * @param to end index, exclusive.
+     * @return the parsed number.
+     * @throws NumberFormatException if a non digit is found.
+     */
+    public long parseLong(int from, int to) {
+        int i = start + from;
+        int limit = start + to;
+        boolean negative = i < limit && buffer.get(i) == '-';
+        if (negative) {
+            i++;
+        }
+
+        if (i >= limit) {
+            throw new NumberFormatException("No digits in line: \"" + this + "\"");
+        }
+
+        long value = 0;
+        for (; i < limit; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a digit at " + (i - start) + ": \"" + this + "\"");
+            }
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return new InputLine().set(buffer, start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length(), StandardCharsets.ISO_8859_1);
+        }
+
+        byte[] bytes = new byte[length()];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
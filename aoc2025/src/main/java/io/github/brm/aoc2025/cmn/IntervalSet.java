@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable set of {@code long} values made of closed intervals,
+ * kept as two sorted {@code long[]} of starts and ends. Intervals
+ * that overlap are merged when the set is built, so the intervals
+ * held are disjoint and in order.
+ *
+ * <p> A single value is found with a two level binary search. Every
+ * 64th start is copied into a small fence array that stays in
+ * cache; searching it picks the block of starts to search next,
+ * so a lookup in a large set only misses the cache within one
+ * block. Neither search has a branch on the data, only a
+ * conditional move. Many values are
+ * better looked up at once with {@link #countSorted(long[])}, which
+ * sweeps them in order against the intervals like a merge join,
+ * split across threads for large batches.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class IntervalSet {
+
+    /** Fewest values worth sweeping on their own thread */
+    private static final int MIN_SWEEP = 1 << 16;
+    /** Starts between two fences */
+    private static final int FENCE_STRIDE = 64;
+
+    private final long[] starts;
+    private final long[] ends;
+    /** Every {@value #FENCE_STRIDE}th start */
+    private final long[] fences;
+
+    private IntervalSet(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+        this.fences = new long[(starts.length + FENCE_STRIDE - 1) / FENCE_STRIDE];
+        for (int i = 0; i < fences.length; i++) {
+            fences[i] = starts[i * FENCE_STRIDE];
+        }
+    }
+
+    /**
+     * Build the set covering the closed intervals
+     * {@code [starts[i], ends[i]]}. Intervals that overlap, or
+     * share a value, are merged into one.
+     *
+     * <p> The arrays are sorted in parallel and merged in place,
+     * so they are owned by the set afterwards. Starts and ends are
+     * sorted apart from each other: the {@code i}th smallest end
+     * closes a merged interval exactly when the next smallest
+     * start is after it, so the pairs never need to be kept
+     * together.
+     *
+     * @param starts the first value of each interval.
+     * @param ends the last value of each interval.
+     * @return the set.
+     * @throws IllegalArgumentException if the arrays differ in
+     *         length or an interval ends before it starts.
+     */
+    public static IntervalSet of(long[] starts, long[] ends) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException(starts.length + " starts but " + ends.length + " ends");
+        }
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] > ends[i]) {
+                throw new IllegalArgumentException("Interval " + starts[i] + "-" + ends[i] + " ends before it starts");
+            }
+        }
+
+        Arrays.parallelSort(starts);
+        Arrays.parallelSort(ends);
+
+        // Merged intervals are written over the ones already read
+        int size = 0;
+        int open = 0;
+        for (int i = 0; i < starts.length; i++) {
+            if (i + 1 == starts.length || starts[i + 1] > ends[i]) {
+                starts[size] = starts[open];
+                ends[size] = ends[i];
+                size++;
+                open = i + 1;
+            }
+        }
+
+        return size == starts.length
+                ? new IntervalSet(starts, ends)
+                : new IntervalSet(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    }
+
+    /** Number of disjoint intervals in the set */
+    public int size() {
+        return starts.length;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /** First value of the interval at the index, intervals are in order */
+    public long start(int index) {
+        return starts[index];
+    }
+
+    /** Last value of the interval at the index */
+    public long end(int index) {
+        return ends[index];
+    }
+
+    /** Number of values in the set */
+    public long cardinality() {
+        long count = 0;
+        for (int i = 0; i < starts.length; i++) {
+            count = Math.addExact(count, ends[i] - starts[i] + 1);
+        }
+        return count;
+    }
+
+    /** Check if the value is in the set */
+    public boolean contains(long value) {
+        int index = floor(value);
+        return index >= 0 && value <= ends[index];
+    }
+
+    /**
+     * Index of the last interval starting at or before the value.
+     *
+     * @param value the value.
+     * @return the index, or {@code -1} if every interval starts
+     *         after the value.
+     */
+    public int floor(long value) {
+        if (starts.length == 0 || value < starts[0]) {
+            return -1;
+        }
+
+        int block = search(fences, 0, fences.length, value) * FENCE_STRIDE;
+        return search(starts, block, Math.min(FENCE_STRIDE, starts.length - block), value);
+    }
+
+    /**
+     * Index of the last of {@code n} sorted values from {@code base}
+     * that is at most the value, the first of them must be.
+     */
+    static int search(long[] sorted, int base, int n, long value) {
+        // Halve the range without branching on which half
+        while (n > 1) {
+            int half = n >>> 1;
+            base = sorted[base + half] <= value ? base + half : base;
+            n -= half;
+        }
+        return base;
+    }
+
+    /**
+     * Count the values that are in the set, sorting a copy of them
+     * first.
+     *
+     * @param values the values to look up.
+     * @return how many of the values are in the set.
+     */
+    public long count(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.parallelSort(sorted);
+        return countSorted(sorted);
+    }
+
+    /**
+     * Count the values that are in the set. The values are swept
+     * in order alongside the intervals, so the whole batch takes
+     * one pass over each rather than a search per value. Large
+     * batches are cut into runs swept in parallel, each starting
+     * from a search for its first value.
+     *
+     * @param sorted the values to look up, in ascending order.
+     * @return how many of the values are in the set.
+     */
+    public long countSorted(long[] sorted) {
+        if (sorted.length < MIN_SWEEP * 2) {
+            return sweep(sorted, 0, sorted.length);
+        }
+
+        int runs = (int) Math.min(Runtime.getRuntime().availableProcessors() * 4L, sorted.length / MIN_SWEEP);
+        return IntStream.range(0, runs).parallel()
+                .mapToLong(run -> sweep(sorted,
+                        (int) ((long) sorted.length * run / runs),
+                        (int) ((long) sorted.length * (run + 1) / runs)))
+                .sum();
+    }
+
+    /** Count the values in {@code [from, to)} of the sorted array that are in the set */
+    private long sweep(long[] sorted, int from, int to) {
+        if (from >= to || starts.length == 0) {
+            return 0;
+        }
+
+        int last = starts.length - 1;
+        int index = Math.max(0, floor(sorted[from]));
+        long count = 0;
+        for (int i = from; i < to; i++) {
+            long value = sorted[i];
+            while (index < last && starts[index + 1] <= value) {
+                index++;
+            }
+            if (starts[index] <= value & value <= ends[index]) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.util.Locale;
+
+/**
+ * Loads and chooses the {@link LongKernels}, and holds the scalar
+ * ones.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+final class Kernels {
+
+    /** The vector kernels, or {@code null} if they cannot be loaded */
+    static final LongKernels VECTOR = load();
+    /** The kernels chosen by {@value LongKernels#PROPERTY} */
+    static final LongKernels CHOSEN = choose();
+
+    private Kernels() { }
+
+    private static LongKernels load() {
+        try {
+            return (LongKernels) Class.forName(LongKernels.VECTOR_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError unavailable) {
+            return null;
+        }
+    }
+
+    private static LongKernels choose() {
+        String chosen = System.getProperty(LongKernels.PROPERTY, "vector").toLowerCase(Locale.ROOT);
+        return switch (chosen) {
+            case "scalar" -> Scalar.INSTANCE;
+            case "vector" -> VECTOR != null ? VECTOR : Scalar.INSTANCE;
+            default -> throw new IllegalArgumentException("Unknown kernels: " + chosen);
+        };
+    }
+
+    /** Plain loops, one value at a time */
+    enum Scalar implements LongKernels {
+        INSTANCE;
+
+        @Override
+        public long sum(long[][] rows, int length) {
+            long sum = 0;
+            for (long[] row : rows) {
+                for (int i = 0; i < length; i++) {
+                    sum += row[i];
+                }
+            }
+            return sum;
+        }
+
+        @Override
+        public long sumOfProducts(long[][] rows, int length) {
+            if (rows.length == 0) {
+                return length;
+            }
+
+            long sum = 0;
+            for (int i = 0; i < length; i++) {
+                long product = rows[0][i];
+                for (int r = 1; r < rows.length; r++) {
+                    product *= rows[r][i];
+                }
+                sum += product;
+            }
+            return sum;
+        }
+    }
+}
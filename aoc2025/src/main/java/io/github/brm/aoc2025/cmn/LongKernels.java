@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+/**
+ * Reductions over columns of {@code long}s, laid out as rows of
+ * the same length. There is a plain scalar implementation and,
+ * when the build includes it and the JVM is run with
+ * {@code --add-modules jdk.incubator.vector}, one written with
+ * the incubating Vector API that works on many lanes at once.
+ *
+ * <p> Which one {@link #get()} returns can be forced with the
+ * {@value #PROPERTY} system property, set to {@code scalar} or
+ * {@code vector}.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public interface LongKernels {
+
+    /** System property choosing the kernels */
+    String PROPERTY = "aoc.kernels";
+
+    /** Name of the class holding the Vector API kernels */
+    String VECTOR_CLASS = "io.github.brm.aoc2025.vector.VectorLongKernels";
+
+    /**
+     * Sum every value in the first {@code length} columns.
+     *
+     * @param rows the rows, each at least {@code length} long.
+     * @param length the number of columns.
+     * @return the sum, wrapping on overflow.
+     */
+    long sum(long[][] rows, int length);
+
+    /**
+     * Multiply down each of the first {@code length} columns and
+     * sum the products.
+     *
+     * @param rows the rows, each at least {@code length} long.
+     * @param length the number of columns.
+     * @return the sum of the products, wrapping on overflow.
+     */
+    long sumOfProducts(long[][] rows, int length);
+
+    /** The kernels chosen by {@value #PROPERTY}, the vector ones if they can be loaded */
+    static LongKernels get() {
+        return Kernels.CHOSEN;
+    }
+
+    /** The scalar kernels */
+    static LongKernels scalar() {
+        return Kernels.Scalar.INSTANCE;
+    }
+
+    /**
+     * The Vector API kernels.
+     *
+     * @return the kernels, or {@code null} if they are not on the
+     *         classpath or the incubator module is not loaded.
+     */
+    static LongKernels vector() {
+        return Kernels.VECTOR;
+    }
+}
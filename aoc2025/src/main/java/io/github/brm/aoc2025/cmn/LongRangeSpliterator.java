@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Spliterator.OfLong} over every value of a set of
+ * inclusive {@code long} ranges, without boxing.
+ *
+ * <p> The ranges are treated as one sequence of values, and
+ * splits cut that sequence in half by element count wherever the
+ * cut falls, inside a range or across several. So one huge range
+ * among many small ones still spreads evenly over every core,
+ * which {@code flatMap} over per range streams cannot do.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class LongRangeSpliterator implements Spliterator.OfLong {
+
+    /** Start of each range */
+    private final long[] starts;
+    /** Number of values before each range, with the total at the end */
+    private final long[] offsets;
+    private final int characteristics;
+
+    /** Position of the next value in the sequence */
+    private long index;
+    /** Position just past the last value this spliterator covers */
+    private final long fence;
+    /** Range holding the value at {@link #index} */
+    private int range;
+
+    private LongRangeSpliterator(long[] starts, long[] offsets, int characteristics, long index, long fence) {
+        this.starts = starts;
+        this.offsets = offsets;
+        this.characteristics = characteristics;
+        this.index = index;
+        this.fence = fence;
+        this.range = rangeOf(index);
+    }
+
+    /**
+     * Create a spliterator over the ranges, in the order given.
+     * Values are also reported as sorted and distinct if the
+     * ranges are sorted and do not overlap, like the output of
+     * merging them.
+     *
+     * @param ranges {@code [start, end]} pairs, both inclusive.
+     *               Ranges with {@code end < start} are empty.
+     * @return the spliterator.
+     * @throws ArithmeticException if there are more than
+     *         {@link Long#MAX_VALUE} values in total.
+     */
+    public static LongRangeSpliterator of(List<long[]> ranges) {
+        long[] starts = new long[ranges.size()];
+        long[] offsets = new long[ranges.size() + 1];
+        boolean ascending = true;
+        for (int i = 0; i < ranges.size(); i++) {
+            long[] range = ranges.get(i);
+            starts[i] = range[0];
+            long count = range[1] < range[0] ? 0 : Math.addExact(Math.subtractExact(range[1], range[0]), 1);
+            offsets[i + 1] = Math.addExact(offsets[i], count);
+
+            if (i > 0 && count > 0 && range[0] <= lastEnd(ranges, i)) {
+                ascending = false;
+            }
+        }
+
+        int characteristics = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        if (ascending) {
+            characteristics |= SORTED | DISTINCT;
+        }
+        return new LongRangeSpliterator(starts, offsets, characteristics, 0, offsets[ranges.size()]);
+    }
+
+    /** End of the last non empty range before {@code i}, or {@link Long#MIN_VALUE} */
+    private static long lastEnd(List<long[]> ranges, int i) {
+        for (int j = i - 1; j >= 0; j--) {
+            if (ranges.get(j)[1] >= ranges.get(j)[0]) {
+                return ranges.get(j)[1];
+            }
+        }
+        return Long.MIN_VALUE;
+    }
+
+    /**
+     * Stream every value of the ranges.
+     *
+     * @param ranges {@code [start, end]} pairs, both inclusive.
+     * @param parallel true for a parallel stream.
+     * @return the stream.
+     */
+    public static LongStream stream(List<long[]> ranges, boolean parallel) {
+        return StreamSupport.longStream(of(ranges), parallel);
+    }
+
+    /**
+     * Index of the last range starting at or before the position.
+     * It may be empty, traversal skips forward past empty ranges.
+     */
+    private int rangeOf(long position) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= position) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (index >= fence) {
+            return false;
+        }
+
+        while (index >= offsets[range + 1]) {
+            range++;
+        }
+        action.accept(starts[range] + (index - offsets[range]));
+        index++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (index < fence) {
+            while (index >= offsets[range + 1]) {
+                range++;
+            }
+
+            // Run through the rest of this range in one tight loop
+            long end = Math.min(fence, offsets[range + 1]);
+            long value = starts[range] + (index - offsets[range]);
+            for (long i = index; i < end; i++) {
+                action.accept(value++);
+            }
+            index = end;
+        }
+    }
+
+    @Override
+    public LongRangeSpliterator trySplit() {
+        long remaining = fence - index;
+        if (remaining < 2) {
+            return null;
+        }
+
+        long middle = index + remaining / 2;
+        LongRangeSpliterator prefix = new LongRangeSpliterator(starts, offsets, characteristics, index, middle);
+        index = middle;
+        range = rangeOf(middle);
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        if (hasCharacteristics(SORTED)) {
+            return null;
+        }
+        throw new IllegalStateException();
+    }
+}
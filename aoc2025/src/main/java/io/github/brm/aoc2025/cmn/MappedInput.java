@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Byte level view of a puzzle input. Files are memory mapped so
+ * nothing is copied onto the heap, and lines are handed out as
+ * reusable {@link InputLine} views rather than a {@code String}
+ * per line.
+ *
+ * <p> A single {@link MappedByteBuffer} can only address 2GB, so
+ * larger files are mapped as several regions. Each region ends
+ * on a line break, meaning no line ever spans two regions.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class MappedInput {
+
+    /** Largest region a single buffer can map */
+    private static final long MAX_REGION = Integer.MAX_VALUE;
+
+    /** Line aligned regions of the input */
+    private final ByteBuffer[] regions;
+    /** Total size of the input in bytes */
+    private final long size;
+
+    private MappedInput(ByteBuffer[] regions, long size) {
+        this.regions = regions;
+        this.size = size;
+    }
+
+    /**
+     * Memory map the file at the given path.
+     *
+     * @param path the file to map.
+     * @return the mapped input.
+     */
+    public static MappedInput map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<ByteBuffer> regions = new ArrayList<>();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(size - position, MAX_REGION);
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                // Trim the region back to its last line break so
+                // that the next region starts on a fresh line
+                if (position + length < size) {
+                    int end = (int) length - 1;
+                    while (end >= 0 && region.get(end) != '\n') {
+                        end--;
+                    }
+
+                    if (end < 0) {
+                        throw new IllegalStateException("Line longer than 2GB in " + path);
+                    }
+                    length = end + 1;
+                    region.limit((int) length);
+                }
+
+                regions.add(region);
+                position += length;
+            }
+
+            return new MappedInput(regions.toArray(ByteBuffer[]::new), size);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Read the stream fully onto the heap, used for inputs that
+     * cannot be mapped such as resources packaged in a jar.
+     *
+     * @param stream the stream to read, it is closed afterwards.
+     * @return the input.
+     */
+    public static MappedInput read(InputStream stream) {
+        try (stream) {
+            return wrap(stream.readAllBytes());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /** Wrap an in memory input */
+    public static MappedInput wrap(byte[] bytes) {
+        return new MappedInput(new ByteBuffer[] {ByteBuffer.wrap(bytes)}, bytes.length);
+    }
+
+    /** Total size of the input in bytes */
+    public long size() {
+        return size;
+    }
+
+    /** SHA-256 of the bytes of the input */
+    public byte[] sha256() {
+        MessageDigest digest = AnswerStore.sha256();
+        for (ByteBuffer region : regions) {
+            digest.update(region.duplicate());
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Call the action for each line of the input. The line
+     * passed is a view that is reused between calls, it does
+     * not include the line terminator.
+     *
+     * @param action the action to call.
+     */
+    public void forEachLine(Consumer<InputLine> action) {
+        InputLine line = new InputLine();
+        for (ByteBuffer region : regions) {
+            int limit = region.limit();
+            int start = 0;
+            while (start < limit) {
+                int end = lineEnd(region, start, limit);
+                action.accept(line.set(region, start, trimCarriageReturn(region, start, end)));
+                start = end + 1;
+            }
+        }
+    }
+
+    /**
+     * Split the input into slices of about the same size, each
+     * ending on a line break, so the slices can be worked on in
+     * parallel. Slices are views over the same bytes.
+     *
+     * @param count the number of slices wanted; fewer are
+     *              returned if the input has fewer lines.
+     * @return the slices, in input order.
+     */
+    public List<MappedInput> slices(int count) {
+        long target = Math.max(1, size / Math.max(1, count));
+        List<MappedInput> slices = new ArrayList<>();
+        for (ByteBuffer region : regions) {
+            int limit = region.limit();
+            int start = 0;
+            while (start < limit) {
+                int end = (int) Math.min(limit, start + target);
+                end = Math.min(limit, lineEnd(region, end - 1, limit) + 1);
+                slices.add(new MappedInput(new ByteBuffer[] {region.slice(start, end - start)}, end - start));
+                start = end;
+            }
+        }
+        return slices;
+    }
+
+    /**
+     * Split the input into slices for a parallel stream: a few per
+     * core so the work balances, but none smaller than the given
+     * size so small inputs are not split for nothing.
+     *
+     * @param minSliceBytes smallest slice worth working on alone.
+     * @return the slices, in input order.
+     */
+    public List<MappedInput> parallelSlices(long minSliceBytes) {
+        long count = Math.min(Runtime.getRuntime().availableProcessors() * 4L, Math.max(1, size / minSliceBytes));
+        return slices((int) count);
+    }
+
+    /**
+     * Stream the lines of the input as strings, this is the
+     * same as {@link java.nio.file.Files#lines(Path)} but reads
+     * from the mapped bytes.
+     *
+     * @return the lines of the input.
+     */
+    public Stream<String> lines() {
+        return StreamSupport.stream(new LineSpliterator(), false);
+    }
+
+    /** Index of the line break ending the line at {@code start}, or the limit */
+    private static int lineEnd(ByteBuffer region, int start, int limit) {
+        int end = start;
+        while (end < limit && region.get(end) != '\n') {
+            end++;
+        }
+        return end;
+    }
+
+    /** Drop the {@code \r} of a windows line ending */
+    private static int trimCarriageReturn(ByteBuffer region, int start, int end) {
+        return (end > start && region.get(end - 1) == '\r') ? end - 1 : end;
+    }
+
+    /** Decodes one line at a time into a string */
+    private final class LineSpliterator extends Spliterators.AbstractSpliterator<String> {
+        private int region = 0;
+        private int position = 0;
+        private byte[] scratch = new byte[128];
+
+        LineSpliterator() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            while (region < regions.length && position >= regions[region].limit()) {
+                region++;
+                position = 0;
+            }
+
+            if (region >= regions.length) {
+                return false;
+            }
+
+            ByteBuffer buffer = regions[region];
+            int end = lineEnd(buffer, position, buffer.limit());
+            int length = trimCarriageReturn(buffer, position, end) - position;
+
+            String line;
+            if (buffer.hasArray()) {
+                line = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.ISO_8859_1);
+            } else {
+                if (scratch.length < length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                buffer.get(position, scratch, 0, length);
+                line = new String(scratch, 0, length, StandardCharsets.ISO_8859_1);
+            }
+
+            position = end + 1;
+            action.accept(line);
+            return true;
+        }
+    }
+}
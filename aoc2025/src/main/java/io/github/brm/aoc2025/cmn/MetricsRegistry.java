@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In process registry of {@link Timer}s, filled in by the
+ * {@link TimedAspect} for methods annotated with {@link Timed}.
+ * Snapshots can be exported as a text table or as JSON.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /** The registry used by the {@link TimedAspect} */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Get the timer with the given name, it is created if it
+     * does not exist yet.
+     *
+     * @param name the timer name.
+     * @return the timer.
+     */
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    /** Remove all timers */
+    public void clear() {
+        timers.clear();
+    }
+
+    /** Snapshot of every timer, ordered by name */
+    public List<Timer.Snapshot> snapshot() {
+        return timers.values().stream()
+                .map(Timer::snapshot)
+                .sorted(Comparator.comparing(Timer.Snapshot::name))
+                .toList();
+    }
+
+    /** Export the timers as a text table with times in microseconds */
+    public String toText() {
+        StringBuilder text = new StringBuilder(String.format("%-32s %10s %8s %12s %12s %12s %12s%n",
+                "Timer", "Count", "Errors", "Mean us", "p50 us", "p99 us", "Max us"));
+        for (Timer.Snapshot timer : snapshot()) {
+            text.append(String.format("%-32s %10d %8d %12.3f %12.3f %12.3f %12.3f%n",
+                    timer.name(), timer.count(), timer.errors(),
+                    timer.meanNanos() / 1e3,
+                    timer.percentileNanos(50) / 1e3,
+                    timer.percentileNanos(99) / 1e3,
+                    timer.maxNanos() / 1e3));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Export the timers as a JSON array. Times are in nanoseconds
+     * and the histogram only lists the buckets that have calls,
+     * keyed by the bucket's lower bound.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("[");
+        List<Timer.Snapshot> snapshot = snapshot();
+        for (int t = 0; t < snapshot.size(); t++) {
+            Timer.Snapshot timer = snapshot.get(t);
+            json.append(t == 0 ? "" : ",")
+                    .append("{\"name\":\"").append(escape(timer.name())).append('"')
+                    .append(",\"count\":").append(timer.count())
+                    .append(",\"errors\":").append(timer.errors())
+                    .append(",\"totalNanos\":").append(timer.totalNanos())
+                    .append(",\"maxNanos\":").append(timer.maxNanos())
+                    .append(",\"p50Nanos\":").append(timer.percentileNanos(50))
+                    .append(",\"p99Nanos\":").append(timer.percentileNanos(99))
+                    .append(",\"histogram\":{");
+
+            boolean first = true;
+            long[] buckets = timer.buckets();
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i] > 0) {
+                    json.append(first ? "" : ",").append('"').append(i == 0 ? 0 : 1L << i).append("\":").append(buckets[i]);
+                    first = false;
+                }
+            }
+            json.append("}}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one phase of solving a puzzle, i.e.
+ * loading the input, parsing it or solving one of the parts.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@Name("io.github.brm.aoc2025.PuzzlePhase")
+@Label("Puzzle Phase")
+@Category("Advent of Code")
+@Description("Loading, parsing or solving a part of a puzzle")
+@StackTrace(false)
+public class PuzzlePhaseEvent extends Event {
+
+    /** Loading the input */
+    public static final String LOAD = "load";
+    /** Parsing the input */
+    public static final String PARSE = "parse";
+    /** Solving part one */
+    public static final String PART_ONE = "part one";
+    /** Solving part two */
+    public static final String PART_TWO = "part two";
+
+    @Label("Day")
+    public int day;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Input Bytes")
+    @DataAmount
+    public long inputBytes;
+
+    @Label("Result")
+    @Description("Answer of the part, not set for loading and parsing")
+    public long result;
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a step inside a puzzle's hot loop,
+ * such as solving a single machine. Callers should only fill in
+ * the fields when {@link #shouldCommit()} is true, so a disabled
+ * event costs no more than checking that flag.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@Name("io.github.brm.aoc2025.PuzzleStep")
+@Label("Puzzle Step")
+@Category("Advent of Code")
+@Description("A unit of work inside a puzzle solve")
+@StackTrace(false)
+public class PuzzleStepEvent extends Event {
+
+    @Label("Day")
+    public int day;
+
+    @Label("Step")
+    public String step;
+
+    @Label("Index")
+    @Description("Index of the step, e.g. the machine number")
+    public long index;
+
+    @Label("Size")
+    @Description("Amount of work in the step, e.g. connections tried")
+    public long size;
+
+    @Label("Result")
+    public long result;
+}
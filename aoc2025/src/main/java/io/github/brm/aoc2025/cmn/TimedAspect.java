@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.ConstructorSignature;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aspect used with the {@link Timed} annotation.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+@Aspect
+public class TimedAspect {
+
+    /** Timer for each advised method, resolved on its first call */
+    private final Map<JoinPoint.StaticPart, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(@io.github.brm.aoc2025.cmn.Timed * *(..))"
+            + " || execution(@io.github.brm.aoc2025.cmn.Timed new(..))")
+    public Object timeMethod(ProceedingJoinPoint pjp) throws Throwable {
+        Timer timer = timers.get(pjp.getStaticPart());
+        if (timer == null) {
+            timer = timers.computeIfAbsent(pjp.getStaticPart(), TimedAspect::register);
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = pjp.proceed();
+            timer.record(System.nanoTime() - start);
+            return result;
+        } catch (Throwable throwable) {
+            timer.recordError(System.nanoTime() - start);
+            throw throwable;
+        }
+    }
+
+    /** Register the timer for the method at the join point */
+    private static Timer register(JoinPoint.StaticPart joinPoint) {
+        Timed timed = null;
+        if (joinPoint.getSignature() instanceof MethodSignature method) {
+            timed = method.getMethod().getAnnotation(Timed.class);
+        } else if (joinPoint.getSignature() instanceof ConstructorSignature constructor) {
+            Constructor<?> target = constructor.getConstructor();
+            timed = target.getAnnotation(Timed.class);
+        }
+
+        String name = (timed != null && !timed.value().isEmpty())
+                ? timed.value()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        return MetricsRegistry.global().timer(name);
+    }
+}
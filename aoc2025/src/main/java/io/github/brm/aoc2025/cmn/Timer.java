@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency timer in the {@link MetricsRegistry}. Recording is lock
+ * free, every count is a {@link LongAdder} so threads recording at
+ * the same time do not contend on a single counter.
+ *
+ * <p> Latencies go into a histogram with one bucket per power of
+ * two nanoseconds, bucket {@code i} holds the calls that took
+ * {@code [2^i, 2^(i+1))} nanoseconds.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class Timer {
+
+    /** One bucket per power of two of a {@code long} */
+    static final int BUCKETS = 64;
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+    Timer(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    /** Name of the timer */
+    public String name() {
+        return name;
+    }
+
+    /** Record a call that took the given time */
+    public void record(long nanos) {
+        long clamped = Math.max(0, nanos);
+        count.increment();
+        totalNanos.add(clamped);
+        maxNanos.accumulate(clamped);
+        histogram[bucket(clamped)].increment();
+    }
+
+    /** Record a call that took the given time and threw */
+    public void recordError(long nanos) {
+        errors.increment();
+        record(nanos);
+    }
+
+    /** Histogram bucket for the latency */
+    static int bucket(long nanos) {
+        return nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /** Take a snapshot of the timer */
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = histogram[i].sum();
+        }
+        return new Snapshot(name, count.sum(), errors.sum(), totalNanos.sum(), maxNanos.get(), buckets);
+    }
+
+    /**
+     * A point in time copy of a timer. The counts are read one
+     * after the other while calls may still be recorded, so they
+     * can be off from each other by the calls in flight.
+     *
+     * @param name the timer name.
+     * @param count number of calls.
+     * @param errors number of calls that threw.
+     * @param totalNanos total time of all calls.
+     * @param maxNanos longest call.
+     * @param buckets the latency histogram.
+     */
+    public record Snapshot(String name, long count, long errors, long totalNanos, long maxNanos, long[] buckets) {
+
+        /** Mean latency in nanoseconds */
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Latency at the given percentile, this is the upper bound
+         * of the histogram bucket the percentile falls in.
+         *
+         * @param percentile percentile between 0 and 100.
+         * @return latency in nanoseconds.
+         */
+        public long percentileNanos(double percentile) {
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+
+            long rank = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return Math.min(maxNanos, i >= 62 ? Long.MAX_VALUE : (2L << i) - 1);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn.collections;
+
+/**
+ * Shared sizing and hashing for the open addressing tables in
+ * this package. Tables have a power of two capacity and are kept
+ * at most half full, so linear probing stays short.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+final class Hashing {
+
+    /** Smallest table capacity */
+    static final int MIN_CAPACITY = 8;
+    /** Largest table capacity */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private Hashing() { }
+
+    /**
+     * Spread the bits of a key over the whole word, so keys that
+     * only differ in their high bits, such as packed points with
+     * the same column, still land in different slots.
+     */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /** Table capacity able to hold the given number of entries */
+    static int capacityFor(int expected) {
+        long needed = Math.max(MIN_CAPACITY, (long) expected * 2);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too many entries: " + expected);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /** Capacity to grow a full table to */
+    static int grow(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Table is full at " + capacity + " slots");
+        }
+        return capacity << 1;
+    }
+}
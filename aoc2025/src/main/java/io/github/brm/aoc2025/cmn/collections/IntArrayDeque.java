@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn.collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A growable double ended queue of {@code int} values, backed by
+ * a ring buffer so values are never boxed. Use it as a FIFO
+ * queue with {@link #addLast} and {@link #pollFirst}, or as a
+ * stack with {@link #addLast} and {@link #pollLast}.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class IntArrayDeque {
+
+    private int[] elements;
+    /** Index of the first element */
+    private int head;
+    private int size;
+
+    /** Create an empty deque */
+    public IntArrayDeque() {
+        this(16);
+    }
+
+    /**
+     * Create an empty deque that can hold the given number of
+     * values without resizing.
+     *
+     * @param expected expected number of values.
+     */
+    public IntArrayDeque(int expected) {
+        elements = new int[Math.max(8, Integer.highestOneBit(Math.max(1, expected) - 1) << 1)];
+    }
+
+    /** Add a value to the back of the deque */
+    public void addLast(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /** Add a value to the front of the deque */
+    public void addFirst(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+    }
+
+    /**
+     * Remove the value at the front of the deque.
+     *
+     * @return the value removed.
+     * @throws NoSuchElementException if the deque is empty.
+     */
+    public int pollFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Remove the value at the back of the deque.
+     *
+     * @return the value removed.
+     * @throws NoSuchElementException if the deque is empty.
+     */
+    public int pollLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        size--;
+        return elements[(head + size) & (elements.length - 1)];
+    }
+
+    /** Number of values in the deque */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Copy the values, front to back, into a new array */
+    public int[] toArray() {
+        int[] values = new int[size];
+        int tail = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, values, 0, tail);
+        System.arraycopy(elements, 0, values, tail, size - tail);
+        return values;
+    }
+
+    /** Remove every value, keeping the current capacity */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /** Double the capacity, moving the values to the start of the buffer */
+    private void grow() {
+        if (elements.length >= Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Deque is full at " + size + " values");
+        }
+        int[] grown = new int[elements.length << 1];
+        int tail = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, tail);
+        System.arraycopy(elements, 0, grown, tail, head);
+        elements = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn.collections;
+
+import java.util.Arrays;
+
+/**
+ * A map from {@code int} keys to {@code int} values using open
+ * addressing, with keys and values interleaved in one
+ * {@code int[]}.
+ *
+ * <p> Empty slots have the key {@code 0}, so the key {@code 0}
+ * itself is kept on the side.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class IntIntHashMap {
+
+    /** Key then value for each slot */
+    private int[] entries;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /** Create an empty map */
+    public IntIntHashMap() {
+        this(Hashing.MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Create an empty map that can hold the given number of
+     * entries without resizing.
+     *
+     * @param expected expected number of entries.
+     */
+    public IntIntHashMap(int expected) {
+        int capacity = Hashing.capacityFor(expected);
+        entries = new int[capacity * 2];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Get the value mapped to the key.
+     *
+     * @param key the key to look up.
+     * @param missing value to return if the key is not mapped.
+     * @return the mapped value, or {@code missing}.
+     */
+    public int get(int key, int missing) {
+        int slot = find(key);
+        if (slot < 0) {
+            return missing;
+        }
+        return key == 0 ? zeroValue : entries[(slot << 1) + 1];
+    }
+
+    /** Check if the key is mapped */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Map the key to the value, replacing any existing value.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    public void put(int key, int value) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+
+        int slot = Hashing.mix(key) & mask;
+        int current;
+        while ((current = entries[slot << 1]) != 0) {
+            if (current == key) {
+                entries[(slot << 1) + 1] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        entries[slot << 1] = key;
+        entries[(slot << 1) + 1] = value;
+        if (++size > (mask + 1) >>> 1) {
+            rehash(Hashing.grow(mask + 1));
+        }
+    }
+
+    /**
+     * Add to the value mapped to the key, treating a missing key
+     * as mapped to {@code 0}.
+     *
+     * @param key the key.
+     * @param delta amount to add.
+     * @return the new value.
+     */
+    public int addTo(int key, int delta) {
+        int value = get(key, 0) + delta;
+        put(key, value);
+        return value;
+    }
+
+    /** Number of entries in the map */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Remove every entry, keeping the current capacity */
+    public void clear() {
+        Arrays.fill(entries, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /** The values of the map, in no particular order */
+    public int[] values() {
+        int[] values = new int[size];
+        int n = 0;
+        if (hasZeroKey) {
+            values[n++] = zeroValue;
+        }
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i] != 0) {
+                values[n++] = entries[i + 1];
+            }
+        }
+        return values;
+    }
+
+    /** An action called with each entry of a map */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    /** Call the action for each entry, in no particular order */
+    public void forEach(EntryConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i] != 0) {
+                action.accept(entries[i], entries[i + 1]);
+            }
+        }
+    }
+
+    /** Slot holding the key, or {@code -1} if it is not mapped */
+    private int find(int key) {
+        if (key == 0) {
+            return hasZeroKey ? 0 : -1;
+        }
+
+        int slot = Hashing.mix(key) & mask;
+        int current;
+        while ((current = entries[slot << 1]) != 0) {
+            if (current == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = entries;
+        entries = new int[capacity * 2];
+        mask = capacity - 1;
+        for (int i = 0; i < old.length; i += 2) {
+            int key = old[i];
+            if (key != 0) {
+                int slot = Hashing.mix(key) & mask;
+                while (entries[slot << 1] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                entries[slot << 1] = key;
+                entries[(slot << 1) + 1] = old[i + 1];
+            }
+        }
+    }
+}
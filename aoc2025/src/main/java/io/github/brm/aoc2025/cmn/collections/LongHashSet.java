@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn.collections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of {@code long} values using open addressing, so no value
+ * is ever boxed and each entry costs one slot of a {@code long[]}.
+ *
+ * <p> Empty slots hold {@code 0}, so the value {@code 0} itself is
+ * tracked by a separate flag.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class LongHashSet {
+
+    private long[] values;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    /** Create an empty set */
+    public LongHashSet() {
+        this(Hashing.MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Create an empty set that can hold the given number of
+     * values without resizing.
+     *
+     * @param expected expected number of values.
+     */
+    public LongHashSet(int expected) {
+        int capacity = Hashing.capacityFor(expected);
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Add the value to the set.
+     *
+     * @param value the value to add.
+     * @return true if the value was not already in the set.
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int slot = Hashing.mix(value) & mask;
+        long current;
+        while ((current = values[slot]) != 0) {
+            if (current == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        values[slot] = value;
+        if (++size > (mask + 1) >>> 1) {
+            rehash(Hashing.grow(mask + 1));
+        }
+        return true;
+    }
+
+    /** Check if the value is in the set */
+    public boolean contains(long value) {
+        if (value == 0) {
+            return hasZero;
+        }
+
+        int slot = Hashing.mix(value) & mask;
+        long current;
+        while ((current = values[slot]) != 0) {
+            if (current == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /** Number of values in the set */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Remove every value, keeping the current capacity */
+    public void clear() {
+        Arrays.fill(values, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    /** Call the action for each value, in no particular order */
+    public void forEach(LongConsumer action) {
+        if (hasZero) {
+            action.accept(0);
+        }
+        for (long value : values) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] old = values;
+        values = new long[capacity];
+        mask = capacity - 1;
+        for (long value : old) {
+            if (value != 0) {
+                int slot = Hashing.mix(value) & mask;
+                while (values[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                values[slot] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn.collections;
+
+import java.util.Arrays;
+
+/**
+ * A map from {@code long} keys to {@code long} values using open
+ * addressing. Keys and values live in one interleaved
+ * {@code long[]}, so a lookup touches a single cache line and no
+ * entry objects or boxes are allocated.
+ *
+ * <p> Empty slots have the key {@code 0}, so the key {@code 0}
+ * itself is kept on the side.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class LongLongHashMap {
+
+    /** Key then value for each slot */
+    private long[] entries;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    /** Create an empty map */
+    public LongLongHashMap() {
+        this(Hashing.MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Create an empty map that can hold the given number of
+     * entries without resizing.
+     *
+     * @param expected expected number of entries.
+     */
+    public LongLongHashMap(int expected) {
+        int capacity = Hashing.capacityFor(expected);
+        entries = new long[capacity * 2];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Get the value mapped to the key.
+     *
+     * @param key the key to look up.
+     * @param missing value to return if the key is not mapped.
+     * @return the mapped value, or {@code missing}.
+     */
+    public long get(long key, long missing) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : missing;
+        }
+
+        int slot = Hashing.mix(key) & mask;
+        long current;
+        while ((current = entries[slot << 1]) != 0) {
+            if (current == key) {
+                return entries[(slot << 1) + 1];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missing;
+    }
+
+    /** Check if the key is mapped */
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+
+        int slot = Hashing.mix(key) & mask;
+        long current;
+        while ((current = entries[slot << 1]) != 0) {
+            if (current == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Map the key to the value, replacing any existing value.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    public void put(long key, long value) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+
+        int slot = Hashing.mix(key) & mask;
+        long current;
+        while ((current = entries[slot << 1]) != 0) {
+            if (current == key) {
+                entries[(slot << 1) + 1] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        entries[slot << 1] = key;
+        entries[(slot << 1) + 1] = value;
+        if (++size > (mask + 1) >>> 1) {
+            rehash(Hashing.grow(mask + 1));
+        }
+    }
+
+    /** Number of entries in the map */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Remove every entry, keeping the current capacity */
+    public void clear() {
+        Arrays.fill(entries, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /** An action called with each entry of a map */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    /** Call the action for each entry, in no particular order */
+    public void forEach(EntryConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i] != 0) {
+                action.accept(entries[i], entries[i + 1]);
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] old = entries;
+        entries = new long[capacity * 2];
+        mask = capacity - 1;
+        for (int i = 0; i < old.length; i += 2) {
+            long key = old[i];
+            if (key != 0) {
+                int slot = Hashing.mix(key) & mask;
+                while (entries[slot << 1] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                entries[slot << 1] = key;
+                entries[(slot << 1) + 1] = old[i + 1];
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn.collections;
+
+import io.github.brm.aoc2025.cmn.Point2D;
+
+/**
+ * Packs a {@link Point2D} into a single {@code long}, {@code x} in
+ * the high 32 bits and {@code y} in the low 32 bits, so points can
+ * be kept in a {@link LongHashSet}, {@link LongLongHashMap} or
+ * {@link LongArrayDeque} without allocating a record per point.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class PackedPoint {
+
+    private PackedPoint() { }
+
+    /** Pack the coordinates into a long */
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /** Pack the point into a long */
+    public static long pack(Point2D point) {
+        return pack(point.x(), point.y());
+    }
+
+    /** The {@code x} coordinate of a packed point */
+    public static int x(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /** The {@code y} coordinate of a packed point */
+    public static int y(long packed) {
+        return (int) packed;
+    }
+
+    /** Unpack the point, allocating a new record */
+    public static Point2D unpack(long packed) {
+        return new Point2D(x(packed), y(packed));
+    }
+
+    /**
+     * Move a packed point by the given amounts, without unpacking
+     * it. Each coordinate wraps on overflow independently.
+     */
+    public static long transform(long packed, int dx, int dy) {
+        return pack(x(packed) + dx, y(packed) + dy);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the closed form counts of {@link Day02} against testing
+ * every ID of a range as text, the way day 2 was first solved.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+class Day02Test {
+
+    private static final long SEED = 20251202L;
+    /** Random ranges of each shape */
+    private static final int RANGES = 1000;
+    /** Widest random range, every ID in it is checked as text */
+    private static final int MAX_WIDTH = 1000;
+    /** Most digits of a random ID, so they stay clear of the long limit */
+    private static final int MAX_DIGITS = 18;
+
+    @Test
+    void matchesAcrossDigitBoundaries() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < RANGES; i++) {
+            // Straddle 10^k so the range holds IDs of two lengths
+            long boundary = pow10(1 + random.nextInt(MAX_DIGITS));
+            long start = Math.max(0, boundary - random.nextInt(MAX_WIDTH));
+            assertMatches(new Day02.IdRange(start, start + random.nextInt(MAX_WIDTH)));
+        }
+    }
+
+    @Test
+    void matchesAroundRepeatedIds() {
+        Random random = new Random(SEED + 1);
+        for (int i = 0; i < RANGES; i++) {
+            // A random pattern repeated to a random length, so the range holds invalid IDs
+            int period = 1 + random.nextInt(MAX_DIGITS / 2);
+            int times = 2 + random.nextInt(MAX_DIGITS / period - 1);
+            long pattern = pow10(period - 1) + random.nextLong(pow10(period) - pow10(period - 1));
+            long id = Long.parseLong(Long.toString(pattern).repeat(times));
+            long start = Math.max(0, id - random.nextInt(MAX_WIDTH));
+            assertMatches(new Day02.IdRange(start, id + random.nextInt(MAX_WIDTH)));
+        }
+    }
+
+    @Test
+    void matchesSmallRanges() {
+        for (long start = 0; start < 200; start++) {
+            for (long end = start; end < 200; end += 7) {
+                assertMatches(new Day02.IdRange(start, end));
+            }
+        }
+    }
+
+    @Test
+    void numericChecksMatchText() {
+        Random random = new Random(SEED + 2);
+        for (int i = 0; i < 100_000; i++) {
+            long id = random.nextLong(pow10(1 + random.nextInt(MAX_DIGITS)));
+            String text = Long.toString(id);
+            assertEquals(isDoubled(text), Day02.isDoubled(id), text);
+            assertEquals(hasRepeatedSequence(text), Day02.hasRepeatedSequence(id), text);
+        }
+    }
+
+    private static void assertMatches(Day02.IdRange range) {
+        assertEquals(enumerate(range, Day02Test::isDoubled), Day02.doubledIds(range), range::toString);
+        assertEquals(enumerate(range, Day02Test::hasRepeatedSequence), Day02.repeatedIds(range), range::toString);
+    }
+
+    /** The IDs of the range that match, checked one at a time */
+    private static Day02.InvalidIds enumerate(Day02.IdRange range, Predicate<String> invalid) {
+        BigInteger sum = BigInteger.ZERO;
+        long count = 0;
+        for (long id = range.start(); id <= range.end(); id++) {
+            if (invalid.test(Long.toString(id))) {
+                sum = sum.add(BigInteger.valueOf(id));
+                count++;
+            }
+        }
+        return new Day02.InvalidIds(sum, count);
+    }
+
+    /** Part one check as day 2 used to do it */
+    private static boolean isDoubled(String id) {
+        int middle = id.length() / 2;
+        return id.length() % 2 == 0 && id.substring(0, middle).equals(id.substring(middle));
+    }
+
+    /** Part two check as day 2 used to do it */
+    private static boolean hasRepeatedSequence(String source) {
+        for (int i = 1; i < source.length(); i++) {
+            if (source.length() % i == 0) {
+                String str = source.substring(0, i);
+                if (str.repeat(source.length() / i).equals(source)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+}
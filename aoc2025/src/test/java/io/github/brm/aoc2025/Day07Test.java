@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks {@link Day07#timelinesByStartColumn()} against solving the
+ * manifold in grid mode with the {@code S} moved to each column.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+class Day07Test {
+
+    private static final long SEED = 20251207L;
+    /** Random manifolds to check */
+    private static final int MANIFOLDS = 50;
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(AdventOfCodePuzzle.INPUT_PROPERTY);
+        System.clearProperty(Day07.MODE_PROPERTY);
+    }
+
+    @Test
+    void timelinesByStartColumnMatchGrid() throws IOException {
+        Random random = new Random(SEED);
+        for (int m = 0; m < MANIFOLDS; m++) {
+            char[][] manifold = manifold(random, 3 + random.nextInt(40), 2 + random.nextInt(40));
+            int width = manifold[0].length;
+
+            System.setProperty(Day07.MODE_PROPERTY, Day07.Mode.GRID.name());
+            long[] expected = new long[width];
+            for (int column = 0; column < width; column++) {
+                manifold[0][column] = 'S';
+                expected[column] = puzzle(manifold).solvePartTwo();
+                manifold[0][column] = '.';
+            }
+
+            manifold[0][random.nextInt(width)] = 'S';
+            for (Day07.Mode mode : Day07.Mode.values()) {
+                System.setProperty(Day07.MODE_PROPERTY, mode.name());
+                Day07 puzzle = puzzle(manifold);
+                String message = mode + " mode on\n" + text(manifold);
+                assertArrayEquals(expected, puzzle.timelinesByStartColumn(), message);
+                // Asking again reuses the index
+                assertArrayEquals(expected, puzzle.timelinesByStartColumn(), message);
+            }
+        }
+    }
+
+    /**
+     * A manifold in the shape of the puzzle inputs: splitters on
+     * every other row, never side by side, with an empty top row.
+     */
+    private static char[][] manifold(Random random, int width, int height) {
+        char[][] rows = new char[height][width];
+        for (int row = 0; row < height; row++) {
+            Arrays.fill(rows[row], '.');
+            if (row > 0 && row % 2 == 0) {
+                for (int column = 0; column < width; column++) {
+                    if (random.nextInt(3) == 0 && (column == 0 || rows[row][column - 1] != '^')) {
+                        rows[row][column] = '^';
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    /** A puzzle reading the manifold from a new input file */
+    private static Day07 puzzle(char[][] manifold) throws IOException {
+        Path input = Files.createTempFile("day7", ".txt");
+        input.toFile().deleteOnExit();
+        Files.writeString(input, text(manifold));
+        System.setProperty(AdventOfCodePuzzle.INPUT_PROPERTY, input.toString());
+        return new Day07();
+    }
+
+    private static String text(char[][] manifold) {
+        return Arrays.stream(manifold).map(String::new).collect(Collectors.joining("\n", "", "\n"));
+    }
+}
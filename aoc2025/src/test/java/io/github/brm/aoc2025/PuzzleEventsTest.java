@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025;
+
+import io.github.brm.aoc2025.cmn.AnswerStore;
+import io.github.brm.aoc2025.cmn.PuzzlePhaseEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the flight recorder events committed while solving a
+ * puzzle, by recording Day 8 on a small fixture.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+class PuzzleEventsTest {
+
+    private static final String PHASE_EVENT = "io.github.brm.aoc2025.PuzzlePhase";
+    private static final String STEP_EVENT = "io.github.brm.aoc2025.PuzzleStep";
+
+    private Path input;
+    private Path dump;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        input = Path.of(PuzzleEventsTest.class.getResource("/fixtures/day8.txt").toURI());
+        dump = Files.createTempFile("puzzle-events", ".jfr");
+        System.setProperty(AdventOfCodePuzzle.INPUT_PROPERTY, input.toString());
+        System.setProperty(AnswerStore.PROPERTY, "none");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        System.clearProperty(AdventOfCodePuzzle.INPUT_PROPERTY);
+        System.clearProperty(AnswerStore.PROPERTY);
+        Files.deleteIfExists(dump);
+    }
+
+    @Test
+    void recordsPhasesAndSteps() throws Exception {
+        long partOne;
+        long partTwo;
+        try (Recording recording = new Recording()) {
+            recording.enable(PHASE_EVENT);
+            recording.enable(STEP_EVENT);
+            recording.start();
+
+            Day08 puzzle = new Day08();
+            partOne = puzzle.answer(PuzzlePhaseEvent.PART_ONE, puzzle::solvePartOne);
+            partTwo = puzzle.answer(PuzzlePhaseEvent.PART_TWO, puzzle::solvePartTwo);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Map<String, RecordedEvent> phases = events.stream()
+                .filter(event -> event.getEventType().getName().equals(PHASE_EVENT))
+                .collect(Collectors.toMap(event -> event.getString("phase"), event -> event));
+        assertEquals(Set.of(PuzzlePhaseEvent.LOAD, PuzzlePhaseEvent.PARSE,
+                PuzzlePhaseEvent.PART_ONE, PuzzlePhaseEvent.PART_TWO), phases.keySet());
+
+        long size = Files.size(input);
+        for (RecordedEvent phase : phases.values()) {
+            assertEquals(8, phase.getInt("day"), phase.getString("phase"));
+            assertEquals(size, phase.getLong("inputBytes"), phase.getString("phase"));
+        }
+        assertEquals(0, phases.get(PuzzlePhaseEvent.LOAD).getLong("result"));
+        assertEquals(0, phases.get(PuzzlePhaseEvent.PARSE).getLong("result"));
+        assertEquals(partOne, phases.get(PuzzlePhaseEvent.PART_ONE).getLong("result"));
+        assertEquals(partTwo, phases.get(PuzzlePhaseEvent.PART_TWO).getLong("result"));
+
+        List<RecordedEvent> batches = events.stream()
+                .filter(event -> event.getEventType().getName().equals(STEP_EVENT))
+                .toList();
+        assertFalse(batches.isEmpty(), "no union batch events");
+        for (RecordedEvent batch : batches) {
+            assertEquals(8, batch.getInt("day"));
+            assertEquals("union batch", batch.getString("step"));
+            assertTrue(batch.getLong("result") <= batch.getLong("size"), "more merges than connections tried");
+        }
+        // Part one tries the first thousand connections in one batch
+        assertTrue(batches.stream().anyMatch(batch -> batch.getLong("index") == 0 && batch.getLong("size") == 1000),
+                "no part one batch");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the {@link AnswerStore}, each against a new store file.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+class AnswerStoreTest {
+
+    /** Answers written past capacity, as if the code had been rebuilt many times */
+    private static final int WRITES = 3 * AnswerStore.CAPACITY;
+    /** Latest answers that must all still be stored */
+    private static final int RECENT = 200;
+
+    private AnswerStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = Files.createTempFile("answers", ".bin");
+        file.toFile().deleteOnExit();
+        store = AnswerStore.open(file);
+    }
+
+    @Test
+    void replacesAnswerOfSameKey() {
+        byte[] key = key(0);
+        assertTrue(store.get(key).isEmpty());
+        store.put(key, 1);
+        store.put(key, 2);
+        assertEquals(OptionalLong.of(2), store.get(key));
+    }
+
+    @Test
+    void keepsRecentAnswersPastCapacity() {
+        for (int i = 0; i < WRITES; i++) {
+            store.put(key(i), i);
+        }
+
+        for (int i = WRITES - RECENT; i < WRITES; i++) {
+            assertEquals(OptionalLong.of(i), store.get(key(i)), "answer " + i);
+        }
+
+        // Old answers made way, and nothing stored is another key's answer
+        int stored = 0;
+        for (int i = 0; i < WRITES; i++) {
+            OptionalLong answer = store.get(key(i));
+            if (answer.isPresent()) {
+                assertEquals(i, answer.getAsLong());
+                stored++;
+            }
+        }
+        assertTrue(stored <= AnswerStore.CAPACITY, stored + " answers stored");
+        assertTrue(store.get(key(0)).isEmpty(), "first answer never reclaimed");
+    }
+
+    /** Key of a solver version, as a rebuild would make */
+    private static byte[] key(int version) {
+        byte[] input = AnswerStore.sha256().digest("input".getBytes(StandardCharsets.UTF_8));
+        return AnswerStore.key(input, "version " + version, 1, "part one");
+    }
+}
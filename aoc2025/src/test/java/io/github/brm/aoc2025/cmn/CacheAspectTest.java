@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.cmn;
+
+import io.github.brm.aoc2025.cmn.CacheAspect.Loader;
+import io.github.brm.aoc2025.cmn.CacheAspect.MethodCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the {@link CacheAspect} method caches, driven directly
+ * rather than through woven methods.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+class CacheAspectTest {
+
+    /** Solves run back to back when checking memory */
+    private static final int SOLVES = 5000;
+    /** Values each solve asks for */
+    private static final int KEYS_PER_SOLVE = 1000;
+
+    @Cache(maxSize = 4)
+    private void lru() { }
+
+    @Cache(maxSize = 4, eviction = Cache.Eviction.TINY_LFU)
+    private void tinyLfu() { }
+
+    @Cache(maxSize = 256)
+    private void bounded() { }
+
+    @Test
+    void lruKeepsLoadsInFlight() throws Exception {
+        assertLoadSurvivesEviction(cache("lru"));
+    }
+
+    @Test
+    void tinyLfuKeepsLoadsInFlight() throws Exception {
+        assertLoadSurvivesEviction(cache("tinyLfu"));
+    }
+
+    @Test
+    void memoryStaysFlatAcrossSolves() throws Exception {
+        MethodCache cache = cache("bounded");
+        long settled = 0;
+        for (int solve = 0; solve < SOLVES; solve++) {
+            Object puzzle = new Object();
+            for (int key = 0; key < KEYS_PER_SOLVE; key++) {
+                get(cache, puzzle, key, () -> new long[16]);
+            }
+
+            // Puzzles are either invalidated when solved or just dropped
+            if (solve % 2 == 0) {
+                cache.invalidate(puzzle);
+            }
+            if (solve == SOLVES / 10) {
+                settled = usedMemory();
+            }
+        }
+
+        long grown = usedMemory() - settled;
+        assertTrue(grown < 16 << 20, () -> "heap grew by " + grown + " bytes");
+        assertEquals((long) SOLVES * KEYS_PER_SOLVE, cache.stats().misses());
+
+        // Tables of dropped puzzles go once their puzzle is collected
+        for (int i = 0; i < 100 && cache.stats().size() > 256; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(cache.stats().size() <= 256, () -> cache.stats().size() + " values still cached");
+    }
+
+    /**
+     * Fill a bounded cache with other values while one value is
+     * loading, and check a second caller for that value still
+     * waits for the load instead of running it again.
+     */
+    private static void assertLoadSurvivesEviction(MethodCache cache) throws Exception {
+        Object puzzle = new Object();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Loader slow = () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            release.await();
+            return "slow";
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> first = executor.submit(() -> get(cache, puzzle, "slow", slow));
+            started.await();
+            for (int i = 0; i < 1000; i++) {
+                int value = i;
+                get(cache, puzzle, i, () -> value);
+            }
+
+            Future<Object> second = executor.submit(() -> get(cache, puzzle, "slow", slow));
+            // The second caller either waits on the first load, a hit, or wrongly loads again
+            while (cache.stats().hits() == 0 && loads.get() == 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("slow", first.get());
+            assertEquals("slow", second.get());
+            assertEquals(1, loads.get(), "value loaded twice");
+            assertTrue(cache.stats().size() <= 4, () -> cache.stats().size() + " values cached");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Object get(MethodCache cache, Object target, Object key, Loader loader) {
+        try {
+            return cache.get(target, key, loader);
+        } catch (Throwable throwable) {
+            throw new CompletionException(throwable);
+        }
+    }
+
+    private static MethodCache cache(String method) throws NoSuchMethodException {
+        Cache settings = CacheAspectTest.class.getDeclaredMethod(method).getAnnotation(Cache.class);
+        return new MethodCache("CacheAspectTest." + method, CacheAspectTest.class, settings);
+    }
+
+    /** Heap in use after collecting garbage */
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.brm.aoc2025.vector;
+
+import io.github.brm.aoc2025.cmn.LongKernels;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link LongKernels} written with the incubating Vector API, each
+ * step working on as many {@code long} lanes as the CPU has. This
+ * source set is compiled with {@code --add-modules
+ * jdk.incubator.vector} and is only ever loaded reflectively, by
+ * {@link LongKernels#get()}.
+ *
+ * @author benjaminmichael
+ * @since 0.0.0
+ */
+public final class VectorLongKernels implements LongKernels {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public long sum(long[][] rows, int length) {
+        if (rows.length == 0) {
+            return 0;
+        }
+
+        int bound = SPECIES.loopBound(length);
+        LongVector sums = LongVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            LongVector column = LongVector.fromArray(SPECIES, rows[0], i);
+            for (int r = 1; r < rows.length; r++) {
+                column = column.add(LongVector.fromArray(SPECIES, rows[r], i));
+            }
+            sums = sums.add(column);
+        }
+
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            for (long[] row : rows) {
+                sum += row[i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public long sumOfProducts(long[][] rows, int length) {
+        if (rows.length == 0) {
+            return length;
+        }
+
+        int bound = SPECIES.loopBound(length);
+        LongVector sums = LongVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            LongVector products = LongVector.fromArray(SPECIES, rows[0], i);
+            for (int r = 1; r < rows.length; r++) {
+                products = products.mul(LongVector.fromArray(SPECIES, rows[r], i));
+            }
+            sums = sums.add(products);
+        }
+
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            long product = rows[0][i];
+            for (int r = 1; r < rows.length; r++) {
+                product *= rows[r][i];
+            }
+            sum += product;
+        }
+        return sum;
+    }
+}